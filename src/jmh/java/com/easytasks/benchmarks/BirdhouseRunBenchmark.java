@@ -0,0 +1,44 @@
+package com.easytasks.benchmarks;
+
+import com.easytasks.testing.BirdhouseRunSimulator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Whole-run cost: one op is a complete scripted birdhouse run through {@link BirdhouseRunSimulator}.
+ * The ticks counter gives the number of simulated game ticks, so ns/op divided by ticks/op is the
+ * average per-tick cost across the run.
+ */
+@State(Scope.Thread)
+public class BirdhouseRunBenchmark
+{
+	@Param
+	public BirdhouseRunSimulator.Scenario scenario;
+
+	private BirdhouseRunSimulator simulator;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Ticks
+	{
+		public long ticks;
+	}
+
+	@Setup
+	public void setUp()
+	{
+		simulator = new BirdhouseRunSimulator();
+	}
+
+	@Benchmark
+	public long fullRun(Ticks counter)
+	{
+		long ticks = simulator.run(scenario);
+		counter.ticks += ticks;
+		return ticks;
+	}
+}
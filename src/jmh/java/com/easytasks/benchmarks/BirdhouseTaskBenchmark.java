@@ -0,0 +1,103 @@
+package com.easytasks.benchmarks;
+
+import com.easytasks.BirdhouseConfig;
+import com.easytasks.tasks.InventoryHistogram;
+import com.easytasks.tasks.Task;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseMode;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import com.easytasks.testing.FakeClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Per-frame and per-event BirdhouseTask paths, with the player standing at the first patch and its
+ * birdhouse built but not yet filled (the fill step, where overlays are busiest).
+ */
+@State(Scope.Benchmark)
+public class BirdhouseTaskBenchmark
+{
+	private FakeClient fake;
+	private BirdhouseTask task;
+	private InventoryHistogram inventory;
+
+	@Setup
+	public void setUp()
+	{
+		fake = new FakeClient();
+		TaskManager taskManager = new TaskManager();
+		BirdhouseConfig config = FakeClient.defaultConfig(BirdhouseConfig.class);
+		inventory = new InventoryHistogram();
+		fake.setVarp(FakeClient.PATCH_VARPS[0], BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY);
+		fake.setPlayerLocation(BirdhouseData.VERDANT_VALLEY_NORTH);
+		inventory.update(fake.getInventoryContainer());
+
+		task = new BirdhouseTask(fake.client(), taskManager, config, inventory);
+		task.setMode(BirdhouseMode.BIRDHOUSES);
+		task.setRouteOrder(new int[]{0, 1, 2, 3});
+		taskManager.registerTask(task);
+		task.updatePlayerLocation(fake.getPlayerLocation());
+	}
+
+	@Benchmark
+	public String getCurrentStepInstruction()
+	{
+		return task.getCurrentStepInstruction();
+	}
+
+	@Benchmark
+	public String getGuidanceLine()
+	{
+		return task.getGuidanceLine();
+	}
+
+	@Benchmark
+	public int checkProximityAndAdvance()
+	{
+		task.checkProximityAndAdvance();
+		return task.getCompletedSteps();
+	}
+
+	/** Per-tick proximity update: one pack, then four int distance checks. */
+	@Benchmark
+	public int updatePlayerLocation()
+	{
+		task.updatePlayerLocation(fake.getPlayerLocation());
+		return task.getPlayerTile();
+	}
+
+	@Benchmark
+	public int onVarChangedUnrelated()
+	{
+		task.onVarChanged(1234, -1);
+		return task.getStateVersion();
+	}
+
+	@Benchmark
+	public List<Task.RequiredItem> birdhousesModeRequiredItems()
+	{
+		return BirdhouseMode.BIRDHOUSES.getRequiredItems();
+	}
+
+	@Benchmark
+	public List<Task.RequiredItem> logsModeRequiredItems()
+	{
+		return BirdhouseMode.LOGS.getRequiredItems();
+	}
+
+	/** The hasRequiredItems / item infobox path: every requirement counted against the inventory. Expect 0 B/op. */
+	@Benchmark
+	public int countRequiredItems()
+	{
+		int total = 0;
+		List<Task.RequiredItem> items = task.getRequiredItems();
+		for (int i = 0; i < items.size(); i++)
+			total += inventory.count(items.get(i));
+		return total;
+	}
+}
@@ -0,0 +1,103 @@
+package com.easytasks.benchmarks;
+
+import com.easytasks.BirdhouseConfig;
+import com.easytasks.infoboxes.ItemTrackingInfoBox;
+import com.easytasks.tasks.InventoryHistogram;
+import com.easytasks.tasks.Task;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseMode;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import com.easytasks.testing.FakeClient;
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.plugins.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of one inventory ItemContainerChanged: the shared histogram rebuild plus every
+ * item-tracking infobox's update, as BirdhousePlugin.onItemContainerChanged runs it.
+ */
+@State(Scope.Benchmark)
+public class ItemTrackingInfoBoxBenchmark
+{
+	private FakeClient fake;
+	private InventoryHistogram inventory;
+	private final List<ItemTrackingInfoBox> boxes = new ArrayList<>();
+	private Item[] partialInventory;
+	private Item[] fullInventory;
+	private boolean toggle;
+
+	@Setup
+	public void setUp()
+	{
+		fake = new FakeClient();
+		inventory = new InventoryHistogram();
+		BirdhouseTask task = new BirdhouseTask(fake.client(), new TaskManager(),
+			FakeClient.defaultConfig(BirdhouseConfig.class), inventory);
+		task.setMode(BirdhouseMode.BIRDHOUSES);
+		task.start();
+
+		// ItemManager is only used at construction for the item name.
+		ItemManager itemManager = mock(ItemManager.class);
+		ItemComposition composition = mock(ItemComposition.class);
+		when(composition.getName()).thenReturn("Item");
+		when(itemManager.getItemComposition(anyInt())).thenReturn(composition);
+
+		Plugin plugin = new Plugin() {};
+		BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		for (Task.RequiredItem ri : task.getRequiredItems())
+			boxes.add(new ItemTrackingInfoBox(image, plugin, ri, task, inventory, itemManager));
+
+		partialInventory = new Item[28];
+		fullInventory = new Item[28];
+		for (int i = 0; i < 28; i++)
+		{
+			partialInventory[i] = new Item(-1, 0);
+			fullInventory[i] = new Item(-1, 0);
+		}
+		for (int i = 0; i < 4; i++)
+		{
+			fullInventory[i] = new Item(BirdhouseData.getBirdhouseId(1), 1);
+			partialInventory[i] = i < 2 ? new Item(BirdhouseData.getBirdhouseId(1), 1) : new Item(-1, 0);
+		}
+		fullInventory[4] = new Item(BirdhouseData.getSeedId(0), 40);
+		partialInventory[4] = new Item(BirdhouseData.getSeedId(0), 10);
+		fullInventory[5] = new Item(ItemID.HAMMER, 1);
+		fullInventory[6] = new Item(ItemID.CHISEL, 1);
+		fake.setInventory(fullInventory);
+	}
+
+	/** Inventory change that leaves every missing count the same (e.g. an unrelated item moved). */
+	@Benchmark
+	public void updateUnchanged()
+	{
+		inventory.update(fake.getInventoryContainer());
+		for (ItemTrackingInfoBox box : boxes)
+			box.update();
+	}
+
+	/** Inventory change that flips the missing counts, so tooltips are rebuilt. */
+	@Benchmark
+	public void updateChanged()
+	{
+		toggle = !toggle;
+		fake.setInventory(toggle ? partialInventory : fullInventory);
+		inventory.update(fake.getInventoryContainer());
+		for (ItemTrackingInfoBox box : boxes)
+			box.update();
+	}
+}
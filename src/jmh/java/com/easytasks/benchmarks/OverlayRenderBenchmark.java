@@ -0,0 +1,117 @@
+package com.easytasks.benchmarks;
+
+import com.easytasks.BirdhouseConfig;
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.BirdhouseConfigSnapshot;
+import com.easytasks.debug.PerfTimings;
+import com.easytasks.overlays.BirdhouseHighlightOverlay;
+import com.easytasks.overlays.TeleportHighlightOverlay;
+import com.easytasks.scene.SceneObjectIndex;
+import com.easytasks.tasks.InventoryHistogram;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseMode;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import com.easytasks.testing.FakeClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Per-frame cost of the scene highlight overlays during a run, with the player on Fossil Island and the
+ * camera still. The fake client has no loaded scene, so no hull reaches Java2D and the numbers are the
+ * overlays' own work; with the GC profiler every benchmark here should report 0 B/op. OverlayAllocationTest
+ * in src/test enforces that, with a loaded scene and the overlays drawing.
+ *
+ * The config benchmarks compare one frame's worth of config reads (every value the overlays use, all
+ * highlights on) through the config proxy, as overlays did, against the snapshot they read now. The fake
+ * proxy dispatches reflectively like RuneLite's but skips its ConfigManager lookup and string parsing,
+ * so the real gap is larger.
+ */
+@State(Scope.Benchmark)
+public class OverlayRenderBenchmark
+{
+	private BirdhouseHighlightOverlay birdhouseOverlay;
+	private TeleportHighlightOverlay teleportOverlay;
+	private BirdhouseConfig config;
+	private BirdhouseConfigHolder configHolder;
+	private Graphics2D graphics;
+
+	@Setup
+	public void setUp()
+	{
+		FakeClient fake = new FakeClient();
+		TaskManager taskManager = new TaskManager();
+		config = FakeClient.defaultConfig(BirdhouseConfig.class);
+		configHolder = new BirdhouseConfigHolder(config);
+		InventoryHistogram inventory = new InventoryHistogram();
+		PerfTimings perfTimings = new PerfTimings();
+		SceneObjectIndex sceneObjectIndex = new SceneObjectIndex();
+		for (int id : BirdhouseData.MUSHROOM_TELEPORT_OBJECT_IDS)
+			sceneObjectIndex.track(id);
+		sceneObjectIndex.track(BirdhouseData.MUSHROOM_TREE_TO_VALLEY_OBJECT_ID);
+		fake.setVarp(FakeClient.PATCH_VARPS[0], BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY);
+		fake.setPlayerLocation(BirdhouseData.VERDANT_VALLEY_NORTH);
+
+		BirdhouseTask task = new BirdhouseTask(fake.client(), taskManager, config, inventory);
+		task.setMode(BirdhouseMode.BIRDHOUSES);
+		task.setRouteOrder(new int[]{2, 3, 0, 1});
+		taskManager.registerTask(task);
+		task.updatePlayerLocation(fake.getPlayerLocation());
+
+		birdhouseOverlay = new BirdhouseHighlightOverlay(fake.client(), configHolder, taskManager, perfTimings);
+		teleportOverlay = new TeleportHighlightOverlay(fake.client(), configHolder, taskManager, sceneObjectIndex, perfTimings);
+		graphics = new BufferedImage(765, 503, BufferedImage.TYPE_INT_ARGB).createGraphics();
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public Dimension birdhouseHighlight()
+	{
+		return birdhouseOverlay.render(graphics);
+	}
+
+	@Benchmark
+	public Dimension teleportHighlight()
+	{
+		return teleportOverlay.render(graphics);
+	}
+
+	@Benchmark
+	public int configReadsViaProxy()
+	{
+		int h = 0;
+		if (config.highlightBirdhouses()) h++;
+		if (config.highlightTeleports()) h++;
+		if (config.showStepGuidance()) h++;
+		if (config.showPathTrail()) h++;
+		h += config.pathTrailColor().getRGB() + config.emptySlotColor().getRGB() + config.emptyBirdhouseColor().getRGB()
+			+ config.occupiedBirdhouseColor().getRGB() + config.teleportColor().getRGB() + config.highlightThickness();
+		return h;
+	}
+
+	@Benchmark
+	public int configReadsViaSnapshot()
+	{
+		BirdhouseConfigSnapshot c = configHolder.get();
+		int h = 0;
+		if (c.highlightBirdhouses()) h++;
+		if (c.highlightTeleports()) h++;
+		if (c.showStepGuidance()) h++;
+		if (c.showPathTrail()) h++;
+		h += c.pathTrailColor().getRGB() + c.emptySlotColor().getRGB() + c.emptyBirdhouseColor().getRGB()
+			+ c.occupiedBirdhouseColor().getRGB() + c.teleportColor().getRGB() + c.highlightStroke().hashCode();
+		return h;
+	}
+}
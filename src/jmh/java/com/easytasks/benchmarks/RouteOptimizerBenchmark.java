@@ -0,0 +1,58 @@
+package com.easytasks.benchmarks;
+
+import com.easytasks.routing.RouteOptimizer;
+import com.easytasks.routing.TravelCostMatrix;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route solve time as the number of stops grows: exact Held-Karp up to RouteOptimizer.EXACT_LIMIT stops,
+ * nearest neighbour + 2-opt above. Stops are random Fossil Island tiles (fixed seed) with the real mushtree
+ * network, so costs have the same shape as the birdhouse route.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteOptimizerBenchmark
+{
+	@Param({"4", "8", "12", "16", "24", "64"})
+	public int stops;
+
+	private int[][] cost;
+	private TravelCostMatrix matrix;
+	private final WorldPoint start = new WorldPoint(3725, 3850, 0);
+
+	@Setup
+	public void setUp()
+	{
+		Random random = new Random(42);
+		List<WorldPoint> points = new ArrayList<>();
+		for (int i = 0; i < stops; i++)
+			points.add(new WorldPoint(3600 + random.nextInt(300), 3700 + random.nextInt(200), 0));
+		matrix = TravelCostMatrix.build(points, BirdhouseData.MUSHROOM_TREE_POINTS);
+		cost = matrix.withStart(start);
+	}
+
+	@Benchmark
+	public int[] solve()
+	{
+		return RouteOptimizer.solve(cost);
+	}
+
+	/** The per-run path: start row from the player's tile plus the solve; the matrix itself is cached. */
+	@Benchmark
+	public int[] planFromCachedMatrix()
+	{
+		return RouteOptimizer.solve(matrix.withStart(start));
+	}
+}
@@ -0,0 +1,127 @@
+package com.easytasks.benchmarks;
+
+import com.easytasks.tasks.Task;
+import com.easytasks.tasks.TaskInterests;
+import com.easytasks.tasks.TaskLocation;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.TaskStep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * TaskManager.getTaskByType (type-keyed index) against the stream-over-CopyOnWriteArrayList lookup it
+ * replaced, plus event dispatch cost. The looked-up task is registered last, the worst case for the stream.
+ */
+@State(Scope.Benchmark)
+public class TaskManagerBenchmark
+{
+	@Param({"1", "10", "20", "100"})
+	public int taskCount;
+
+	private TaskManager taskManager;
+	private final List<Task> streamTasks = new CopyOnWriteArrayList<>();
+
+	@Setup
+	public void setUp()
+	{
+		taskManager = new TaskManager();
+		streamTasks.clear();
+		for (int i = 0; i < taskCount - 1; i++)
+		{
+			Task filler = new FillerTask(i);
+			taskManager.registerTask(filler);
+			streamTasks.add(filler);
+		}
+		Task target = new TargetTask();
+		taskManager.registerTask(target);
+		streamTasks.add(target);
+	}
+
+	@Benchmark
+	public Optional<TargetTask> indexedLookup()
+	{
+		return taskManager.getTaskByType(TargetTask.class);
+	}
+
+	@Benchmark
+	public Optional<TargetTask> streamLookup()
+	{
+		return streamLookup(TargetTask.class);
+	}
+
+	@Benchmark
+	public Optional<MissingTask> indexedMiss()
+	{
+		return taskManager.getTaskByType(MissingTask.class);
+	}
+
+	/** A var change no registered task declared interest in: one dispatch-table miss. */
+	@Benchmark
+	public void dispatchUninterestedVar()
+	{
+		taskManager.dispatchVarChanged(99_999, -1);
+	}
+
+	/** A var change exactly one task declared interest in. */
+	@Benchmark
+	public void dispatchInterestedVar()
+	{
+		taskManager.dispatchVarChanged(FillerTask.VARP_BASE, -1);
+	}
+
+	/** The pre-index implementation of getTaskByType. */
+	@SuppressWarnings("unchecked")
+	private <T extends Task> Optional<T> streamLookup(Class<T> type)
+	{
+		return streamTasks.stream()
+			.filter(type::isInstance)
+			.map(t -> (T) t)
+			.findFirst();
+	}
+
+	static class StubTask implements Task
+	{
+		@Override public void start() {}
+		@Override public void stop() {}
+		@Override public boolean isActive() { return true; }
+		@Override public boolean isComplete() { return false; }
+		@Override public int getProgress() { return 0; }
+		@Override public List<RequiredItem> getRequiredItems() { return List.of(); }
+		@Override public List<? extends TaskLocation> getLocations() { return List.of(); }
+		@Override public TaskStep getCurrentStep() { return null; }
+		@Override public int getCompletedSteps() { return 0; }
+		@Override public int getTotalSteps() { return 0; }
+		@Override public String getName() { return getClass().getSimpleName(); }
+		@Override public String getDescription() { return ""; }
+		@Override public BufferedImage getIcon() { return null; }
+	}
+
+	/** Declares one varp, container and object of its own, like an unrelated concurrent task would. */
+	static class FillerTask extends StubTask
+	{
+		static final int VARP_BASE = 2000;
+		private final TaskInterests interests;
+
+		FillerTask(int n)
+		{
+			interests = TaskInterests.builder()
+				.gameTick()
+				.varp(VARP_BASE + n)
+				.container(1000 + n)
+				.objectId(40_000 + n)
+				.build();
+		}
+
+		@Override public TaskInterests getInterests() { return interests; }
+	}
+	static class TargetTask extends StubTask {}
+	static class MissingTask extends StubTask {}
+}
@@ -11,6 +11,12 @@ public interface BirdhouseConfig extends Config
 	@ConfigItem(keyName = "birdhouseMode", name = "Birdhouse mode", description = "Item loadout mode: complete birdhouses or logs + seeds")
 	default BirdhouseMode birdhouseMode() { return BirdhouseMode.BIRDHOUSES; }
 
+	@ConfigItem(keyName = "optimizeRoute", name = "Optimize route", description = "On start, order the patches by travel time (walking and mushtrees) from where you are")
+	default boolean optimizeRoute() { return false; }
+
+	@ConfigItem(keyName = "notifyBirdhousesReady", name = "Notify when ready", description = "Send a notification when birdhouses filled on a run have caught their birds, even across restarts")
+	default boolean notifyBirdhousesReady() { return true; }
+
 	@ConfigItem(keyName = "highlightBirdhouses", name = "Highlight birdhouses", description = "Toggle birdhouse object highlights")
 	default boolean highlightBirdhouses() { return true; }
 
@@ -23,6 +29,12 @@ public interface BirdhouseConfig extends Config
 	@ConfigItem(keyName = "showStepGuidance", name = "Show step guidance", description = "Toggle step guidance infobox")
 	default boolean showStepGuidance() { return true; }
 
+	@ConfigItem(keyName = "showPathTrail", name = "Show path trail", description = "Draw the walking path to the next patch and show the remaining tiles")
+	default boolean showPathTrail() { return true; }
+
+	@ConfigItem(keyName = "pathTrailColor", name = "Path trail color", description = "Outline color for path trail tiles")
+	default Color pathTrailColor() { return Color.WHITE; }
+
 	@ConfigItem(keyName = "emptySlotColor", name = "Empty slot color", description = "Highlight color for empty ground slots")
 	default Color emptySlotColor() { return Color.RED; }
 
@@ -38,4 +50,11 @@ public interface BirdhouseConfig extends Config
 	@ConfigItem(keyName = "highlightThickness", name = "Highlight thickness", description = "Outline thickness for highlights (1-5)")
 	@Range(min = 1, max = 5)
 	default int highlightThickness() { return 2; }
+
+	@ConfigItem(keyName = "historyMaxKb", name = "History log size (KB)", description = "Run history log size at which it is rotated and compacted to the most recent runs")
+	@Range(min = 16, max = 65536)
+	default int historyMaxKb() { return 512; }
+
+	@ConfigItem(keyName = "showPerfTimings", name = "Show performance timings", description = "Developer aid: per-overlay and per-event timings (p50/p99/max)")
+	default boolean showPerfTimings() { return false; }
 }
@@ -0,0 +1,31 @@
+package com.easytasks;
+
+import com.google.inject.Singleton;
+
+import javax.inject.Inject;
+
+/**
+ * Current {@link BirdhouseConfigSnapshot}, swapped by {@link #refresh()} from BirdhousePlugin's
+ * ConfigChanged handler. Overlays call {@link #get()} once per frame: a single volatile read.
+ */
+@Singleton
+public class BirdhouseConfigHolder
+{
+	private final BirdhouseConfig config;
+	private volatile BirdhouseConfigSnapshot snapshot;
+
+	@Inject
+	public BirdhouseConfigHolder(BirdhouseConfig config)
+	{
+		this.config = config;
+		this.snapshot = BirdhouseConfigSnapshot.of(config);
+	}
+
+	public BirdhouseConfigSnapshot get() { return snapshot; }
+
+	/** Re-reads the config; call after it changes (or may have changed while the plugin was off). */
+	public void refresh()
+	{
+		snapshot = BirdhouseConfigSnapshot.of(config);
+	}
+}
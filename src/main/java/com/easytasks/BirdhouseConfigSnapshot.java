@@ -0,0 +1,55 @@
+package com.easytasks;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Stroke;
+
+/**
+ * Immutable copy of the config values the overlays read every frame. Each BirdhouseConfig call goes
+ * through RuneLite's config proxy (a ConfigManager lookup and a string parse), so these are read once
+ * per config change instead; see {@link BirdhouseConfigHolder}.
+ */
+public final class BirdhouseConfigSnapshot
+{
+	private final boolean highlightBirdhouses;
+	private final boolean highlightTeleports;
+	private final boolean showStepGuidance;
+	private final boolean showPathTrail;
+	private final Color pathTrailColor;
+	private final Color emptySlotColor;
+	private final Color emptyBirdhouseColor;
+	private final Color occupiedBirdhouseColor;
+	private final Color teleportColor;
+	private final Stroke highlightStroke;
+
+	private BirdhouseConfigSnapshot(BirdhouseConfig config)
+	{
+		highlightBirdhouses = config.highlightBirdhouses();
+		highlightTeleports = config.highlightTeleports();
+		showStepGuidance = config.showStepGuidance();
+		showPathTrail = config.showPathTrail();
+		pathTrailColor = config.pathTrailColor();
+		emptySlotColor = config.emptySlotColor();
+		emptyBirdhouseColor = config.emptyBirdhouseColor();
+		occupiedBirdhouseColor = config.occupiedBirdhouseColor();
+		teleportColor = config.teleportColor();
+		highlightStroke = new BasicStroke(config.highlightThickness());
+	}
+
+	public static BirdhouseConfigSnapshot of(BirdhouseConfig config)
+	{
+		return new BirdhouseConfigSnapshot(config);
+	}
+
+	public boolean highlightBirdhouses() { return highlightBirdhouses; }
+	public boolean highlightTeleports() { return highlightTeleports; }
+	public boolean showStepGuidance() { return showStepGuidance; }
+	public boolean showPathTrail() { return showPathTrail; }
+	public Color pathTrailColor() { return pathTrailColor; }
+	public Color emptySlotColor() { return emptySlotColor; }
+	public Color emptyBirdhouseColor() { return emptyBirdhouseColor; }
+	public Color occupiedBirdhouseColor() { return occupiedBirdhouseColor; }
+	public Color teleportColor() { return teleportColor; }
+	/** Outline stroke at highlightThickness, built once per config change. */
+	public Stroke highlightStroke() { return highlightStroke; }
+}
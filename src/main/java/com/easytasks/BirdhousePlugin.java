@@ -1,23 +1,43 @@
 package com.easytasks;
 
+import com.easytasks.debug.PerfTimings;
+import com.easytasks.debug.PerfTimingsOverlay;
+import com.easytasks.history.RunHistoryLog;
+import com.easytasks.lifecycle.DormancyManager;
+import com.easytasks.pathing.PathTracker;
+import com.easytasks.persistence.RunStateStore;
+import com.easytasks.routing.RoutePlanner;
+import com.easytasks.scheduling.ActivityScheduler;
+import com.easytasks.tasks.InventoryHistogram;
 import com.easytasks.tasks.Task;
 import com.easytasks.tasks.TaskManager;
 import com.easytasks.tasks.birdhouse.BirdhouseTask;
 import com.easytasks.ui.BirdhouseSidePanel;
 import com.easytasks.overlays.BirdhouseHighlightOverlay;
+import com.easytasks.overlays.PathTrailOverlay;
 import com.easytasks.overlays.SeedHighlightOverlay;
 import com.easytasks.overlays.StepGuidanceOverlay;
 import com.easytasks.overlays.TeleportHighlightOverlay;
+import com.easytasks.scene.SceneObjectIndex;
 import com.google.inject.Provides;
 import javax.inject.Provider;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseLocation;
 import com.easytasks.tasks.birdhouse.BirdhouseMode;
+import com.easytasks.tasks.birdhouse.BirdhouseRequirement;
+import com.easytasks.tasks.birdhouse.RunSnapshot;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
+import net.runelite.api.InventoryID;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -55,6 +75,9 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 	@Inject
 	private BirdhouseConfig config;
 
+	@Inject
+	private BirdhouseConfigHolder configHolder;
+
 	@Inject
 	private TaskManager taskManager;
 
@@ -73,6 +96,15 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 	@Inject
 	private StepGuidanceOverlay stepGuidanceOverlay;
 
+	@Inject
+	private PathTrailOverlay pathTrailOverlay;
+
+	@Inject
+	private PathTracker pathTracker;
+
+	@Inject
+	private RoutePlanner routePlanner;
+
 	@Inject
 	private ItemManager itemManager;
 
@@ -88,7 +120,35 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 	@Inject
 	private InfoBoxManager infoBoxManager;
 
+	@Inject
+	private SceneObjectIndex sceneObjectIndex;
+
+	@Inject
+	private InventoryHistogram inventoryHistogram;
+
+	@Inject
+	private PerfTimings perfTimings;
+
+	@Inject
+	private PerfTimingsOverlay perfTimingsOverlay;
+
+	@Inject
+	private DormancyManager dormancyManager;
+
+	@Inject
+	private RunStateStore runStateStore;
+
+	@Inject
+	private ActivityScheduler activityScheduler;
+
+	@Inject
+	private Notifier notifier;
+
+	@Inject
+	private RunHistoryLog runHistoryLog;
 	private NavigationButton navButton;
+	/** Set once the saved run has been looked up for this login; LOGGED_IN repeats on every region load. */
+	private boolean resumeChecked;
 	private List<com.easytasks.infoboxes.ItemTrackingInfoBox> itemTrackingInfoBoxes = new ArrayList<>();
 
 	@Provides
@@ -100,10 +160,28 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 	@Override
 	protected void startUp() throws Exception
 	{
-		overlayManager.add(birdhouseHighlightOverlay);
-		overlayManager.add(seedHighlightOverlay);
-		overlayManager.add(teleportHighlightOverlay);
-		overlayManager.add(stepGuidanceOverlay);
+		configHolder.refresh();
+		for (int id : BirdhouseData.MUSHROOM_TELEPORT_OBJECT_IDS)
+			sceneObjectIndex.track(id);
+		sceneObjectIndex.track(BirdhouseData.MUSHROOM_TREE_TO_VALLEY_OBJECT_ID);
+		clientThread.invokeLater(() -> {
+			if (client.getGameState() == GameState.LOGGED_IN)
+				sceneObjectIndex.rebuild(client);
+		});
+		// Overlays and hot subscribers are attached by the dormancy manager only while a run needs them.
+		dormancyManager.addRegionOverlay(birdhouseHighlightOverlay);
+		dormancyManager.addRegionOverlay(seedHighlightOverlay);
+		dormancyManager.addRegionOverlay(teleportHighlightOverlay);
+		dormancyManager.addRegionOverlay(pathTrailOverlay);
+		// Step guidance says where to go next, so it shows for the whole run, not just on Fossil Island.
+		dormancyManager.addRunOverlay(stepGuidanceOverlay);
+		dormancyManager.addRegionSubscriber(GameTick.class, this::onGameTick);
+		dormancyManager.addRunSubscriber(ItemContainerChanged.class, this::onItemContainerChanged);
+		dormancyManager.setOnRunAttached(this::refreshInventory);
+		dormancyManager.setOnRegionDetached(this::onRegionDetached);
+		dormancyManager.start();
+		activityScheduler.start(this::onActivityDue);
+		runHistoryLog.start(sidePanel::setHistoryStats);
 		BufferedImage icon = createNavIcon();
 		navButton = NavigationButton.builder()
 			.icon(icon)
@@ -116,6 +194,12 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 		sidePanel.setOnStopRequested(this::stopBirdhouseRun);
 		sidePanel.setOnItemListRefreshRequested(this::refreshItemTrackingInfoBox);
 		taskManager.addTaskStateListener(this);
+		applyPerfTimingsConfig();
+		// Enabled mid-session: no LOGGED_IN event will come to trigger the saved run lookup.
+		clientThread.invokeLater(() -> {
+			if (client.getGameState() == GameState.LOGGED_IN)
+				checkForSavedRun();
+		});
 
 		log.debug("Easy Tasks started!");
 	}
@@ -124,51 +208,112 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 	protected void shutDown() throws Exception
 	{
 		taskManager.removeTaskStateListener(this);
-		stopBirdhouseRun();
+		// Keep the saved run so it resumes when the plugin or client starts again.
+		suspendBirdhouseRun();
+		resumeChecked = false;
 		removeBirdhouseInfoBoxes();
 		clientToolbar.removeNavigation(navButton);
-		overlayManager.remove(stepGuidanceOverlay);
-		overlayManager.remove(teleportHighlightOverlay);
-		overlayManager.remove(seedHighlightOverlay);
-		overlayManager.remove(birdhouseHighlightOverlay);
+		dormancyManager.stop();
+		activityScheduler.stop();
+		runHistoryLog.stop();
+		overlayManager.remove(perfTimingsOverlay);
+		perfTimings.setEnabled(false);
+		sceneObjectIndex.clear();
+		pathTracker.onRegionLoading();
 		log.debug("Easy Tasks stopped!");
 	}
 
 	private void startBirdhouseRun()
 	{
-		int[] routeOrder = sidePanel.getRouteOrder();
+		int[] panelRouteOrder = sidePanel.getRouteOrder();
 		BirdhouseMode mode = config.birdhouseMode();
 		clientThread.invokeLater(() -> {
+			int[] routeOrder = panelRouteOrder;
+			if (config.optimizeRoute() && client.getLocalPlayer() != null)
+			{
+				routeOrder = routePlanner.planFrom(client.getLocalPlayer().getWorldLocation());
+				sidePanel.setRouteOrder(routeOrder);
+			}
 			BirdhouseTask task = birdhouseTaskProvider.get();
 			task.setRouteOrder(routeOrder);
 			task.setMode(mode);
 			task.setOnCompleteCallback(this::onTaskComplete);
+			task.setOnPatchFilled(this::onPatchFilled);
 			taskManager.registerTask(task);
+			runHistoryLog.runStarted(inventoryHistogram.count(BirdhouseRequirement.ANY_SEED));
+			addItemTrackingInfoBoxes(task);
+		});
+	}
+
+	/** Client thread: continues a run saved before logout/restart instead of starting fresh. */
+	private void resumeBirdhouseRun(RunSnapshot snapshot)
+	{
+		if (taskManager.getTaskByType(BirdhouseTask.class).isPresent()) return;
+		BirdhouseTask task = birdhouseTaskProvider.get();
+		task.restoreOnStart(snapshot);
+		task.setOnCompleteCallback(this::onTaskComplete);
+		task.setOnPatchFilled(this::onPatchFilled);
+		taskManager.registerTask(task);
+		sidePanel.setRouteOrder(snapshot.getRouteOrder());
+		addItemTrackingInfoBoxes(task);
+		client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Easy Tasks: Run resumed.", null);
+	}
 
-			removeBirdhouseInfoBoxes();
-			if (config.showItemTracking())
+	private void addItemTrackingInfoBoxes(BirdhouseTask task)
+	{
+		removeBirdhouseInfoBoxes();
+		if (config.showItemTracking())
+		{
+			itemTrackingInfoBoxes = new ArrayList<>();
+			for (Task.RequiredItem ri : task.getRequiredItems())
 			{
-				itemTrackingInfoBoxes = new ArrayList<>();
-				for (Task.RequiredItem ri : task.getRequiredItems())
-				{
-					BufferedImage itemBoxImage = itemManager.getImage(ri.getItemId());
-					if (itemBoxImage == null) itemBoxImage = createNavIcon();
-					com.easytasks.infoboxes.ItemTrackingInfoBox box = new com.easytasks.infoboxes.ItemTrackingInfoBox(itemBoxImage, this, ri, task, client, itemManager);
-					infoBoxManager.addInfoBox(box);
-					itemTrackingInfoBoxes.add(box);
-				}
+				BufferedImage itemBoxImage = itemManager.getImage(ri.getItemId());
+				if (itemBoxImage == null) itemBoxImage = createNavIcon();
+				com.easytasks.infoboxes.ItemTrackingInfoBox box = new com.easytasks.infoboxes.ItemTrackingInfoBox(itemBoxImage, this, ri, task, inventoryHistogram, itemManager);
+				infoBoxManager.addInfoBox(box);
+				itemTrackingInfoBoxes.add(box);
 			}
-			else
-				itemTrackingInfoBoxes = new ArrayList<>();
-		});
+		}
+		else
+			itemTrackingInfoBoxes = new ArrayList<>();
 	}
 
+	/** User stop: ends the run and forgets its saved state. */
+	/** Side panel Stop (EDT): the task and the inventory histogram are client-thread only, as in startBirdhouseRun. */
 	private void stopBirdhouseRun()
 	{
-		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(task -> {
-			taskManager.unregisterTask(task);
-			clientThread.invokeLater(() ->
-				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Easy Tasks: Run stopped.", null));
+		clientThread.invokeLater(() ->
+			taskManager.getTaskByType(BirdhouseTask.class).ifPresent(task -> {
+				taskManager.unregisterTask(task);
+				clearSavedRun();
+				runHistoryLog.runAborted(inventoryHistogram.count(BirdhouseRequirement.ANY_SEED));
+				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Easy Tasks: Run stopped.", null);
+			}));
+	}
+
+	/** Logout/shutdown: ends the run in memory but keeps the saved state for the next login. */
+	private void suspendBirdhouseRun()
+	{
+		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(taskManager::unregisterTask);
+	}
+
+	private void clearSavedRun()
+	{
+		long accountHash = client.getAccountHash();
+		if (accountHash != -1) runStateStore.clear(accountHash);
+	}
+
+	/** Looks up a saved run off the client thread and resumes it there. */
+	private void checkForSavedRun()
+	{
+		if (resumeChecked) return;
+		long accountHash = client.getAccountHash();
+		if (accountHash == -1) return;
+		resumeChecked = true;
+		if (taskManager.getTaskByType(BirdhouseTask.class).isPresent()) return;
+		runStateStore.load(accountHash, data -> {
+			RunSnapshot snapshot = RunSnapshot.decode(data);
+			if (snapshot != null) clientThread.invokeLater(() -> resumeBirdhouseRun(snapshot));
 		});
 	}
 
@@ -178,10 +323,70 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(task -> {
 			taskManager.unregisterTask(task);
 		});
+		clearSavedRun();
+		runHistoryLog.runCompleted(inventoryHistogram.count(BirdhouseRequirement.ANY_SEED));
 		// Ensure side panel button and progress reset to "Start Birdhouse Run".
 		sidePanel.setRunIdle();
 	}
 
+	/** A patch was just seeded: schedule its readiness, replacing any timer left from the previous run. */
+	private void onPatchFilled(BirdhouseLocation loc)
+	{
+		runHistoryLog.patchFilled(loc.getPatchIndex(), inventoryHistogram.count(BirdhouseRequirement.ANY_SEED));
+		long accountHash = client.getAccountHash();
+		if (accountHash == -1) return;
+		activityScheduler.schedule("birdhouse." + Long.toHexString(accountHash) + "." + loc.getPatchIndex(),
+			"Your birdhouse at " + loc.getName() + " is ready.",
+			System.currentTimeMillis() + BirdhouseData.CATCH_DURATION_MS);
+	}
+
+	/** Executor thread: a scheduled activity is due. */
+	private void onActivityDue(ActivityScheduler.Activity activity)
+	{
+		if (!config.notifyBirdhousesReady()) return;
+		notifier.notify(activity.getMessage());
+		clientThread.invokeLater(() -> {
+			if (client.getGameState() == GameState.LOGGED_IN)
+				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Easy Tasks: " + activity.getMessage(), null);
+		});
+	}
+
+	/**
+	 * Leaving Fossil Island stops the per-tick location updates, but step guidance stays up for the run:
+	 * take one last reading so it says where to go instead of what to do at the patch just left.
+	 */
+	private void onRegionDetached()
+	{
+		pathTracker.reset();
+		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(BirdhouseTask::onGameTick);
+	}
+
+	/** Inventory events are not subscribed while no run is registered; catch up when they are. */
+	private void refreshInventory()
+	{
+		inventoryHistogram.update(client.getItemContainer(InventoryID.INVENTORY));
+		for (com.easytasks.infoboxes.ItemTrackingInfoBox box : itemTrackingInfoBoxes)
+			box.update();
+	}
+
+	/** Timings are opt-in: the debug overlay is only attached while the config toggle is on. */
+	private void applyPerfTimingsConfig()
+	{
+		boolean enabled = config.showPerfTimings();
+		if (enabled == perfTimings.isEnabled()) return;
+		perfTimings.setEnabled(enabled);
+		if (enabled) overlayManager.add(perfTimingsOverlay);
+		else overlayManager.remove(perfTimingsOverlay);
+	}
+
+	/** Points the path tracker at the current step's patch; cached distance fields make this O(1) per tick. */
+	private void updatePathTracker()
+	{
+		BirdhouseTask task = taskManager.getTaskByType(BirdhouseTask.class).orElse(null);
+		BirdhouseLocation loc = task != null && task.isActive() && config.showPathTrail() ? task.getCurrentStepLocation() : null;
+		pathTracker.update(loc == null ? null : loc.getWorldPoint());
+	}
+
 	private void applyConfigToTask(BirdhouseTask task)
 	{
 		task.setMode(config.birdhouseMode());
@@ -217,46 +422,109 @@ public class BirdhousePlugin extends Plugin implements TaskManager.TaskStateList
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged event)
 	{
-		if (event.getGameState() == GameState.LOGIN_SCREEN)
+		long start = perfTimings.start();
+		if (event.getGameState() == GameState.LOADING)
+		{
+			sceneObjectIndex.clear();
+			pathTracker.onRegionLoading();
+			birdhouseHighlightOverlay.invalidateHulls();
+			teleportHighlightOverlay.invalidateHulls();
+			pathTrailOverlay.invalidatePolygons();
+		}
+		else if (event.getGameState() == GameState.LOGGED_IN)
 		{
-			stopBirdhouseRun();
+			dormancyManager.update();
+			checkForSavedRun();
 		}
+		else if (event.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			suspendBirdhouseRun();
+			resumeChecked = false;
+		}
+		perfTimings.stop(PerfTimings.Metric.GAME_STATE_CHANGED, start);
 	}
 
 	@Subscribe
-	public void onGameTick(GameTick event)
+	public void onGameObjectSpawned(GameObjectSpawned event)
 	{
-		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(BirdhouseTask::checkProximityAndAdvance);
+		long start = perfTimings.start();
+		sceneObjectIndex.onObjectSpawned(event.getGameObject());
+		perfTimings.stop(PerfTimings.Metric.GAME_OBJECT_SPAWNED, start);
 	}
 
 	@Subscribe
-	public void onMenuOptionClicked(MenuOptionClicked event)
+	public void onGameObjectDespawned(GameObjectDespawned event)
 	{
-		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(task ->
-			task.onMenuOptionClicked(event.getMenuOption(), event.getId(), event.getParam0(), event.getParam1()));
+		long start = perfTimings.start();
+		sceneObjectIndex.onObjectDespawned(event.getGameObject());
+		perfTimings.stop(PerfTimings.Metric.GAME_OBJECT_DESPAWNED, start);
+	}
+
+	/** Subscribed by {@link DormancyManager} while a run is in its region. */
+	private void onGameTick(GameTick event)
+	{
+		long start = perfTimings.start();
+		taskManager.dispatchGameTick();
+		updatePathTracker();
+		perfTimings.stop(PerfTimings.Metric.GAME_TICK, start);
 	}
 
 	@Subscribe
-	public void onItemContainerChanged(ItemContainerChanged event)
+	public void onVarbitChanged(VarbitChanged event)
 	{
-		if (event.getContainerId() != net.runelite.api.InventoryID.INVENTORY.getId())
-			return;
-		for (com.easytasks.infoboxes.ItemTrackingInfoBox box : itemTrackingInfoBoxes)
-			box.update();
+		long start = perfTimings.start();
+		taskManager.dispatchVarChanged(event.getVarpId(), event.getVarbitId());
+		perfTimings.stop(PerfTimings.Metric.VARBIT_CHANGED, start);
+	}
+
+	@Subscribe
+	public void onMenuOptionClicked(MenuOptionClicked event)
+	{
+		long start = perfTimings.start();
+		taskManager.dispatchMenuOptionClicked(event.getMenuOption(), event.getId(), event.getParam0(), event.getParam1());
+		perfTimings.stop(PerfTimings.Metric.MENU_OPTION_CLICKED, start);
+	}
+
+	/** Subscribed by {@link DormancyManager} while a run is registered. */
+	private void onItemContainerChanged(ItemContainerChanged event)
+	{
+		long start = perfTimings.start();
+		if (event.getContainerId() == InventoryID.INVENTORY.getId())
+		{
+			inventoryHistogram.update(event.getItemContainer());
+			for (com.easytasks.infoboxes.ItemTrackingInfoBox box : itemTrackingInfoBoxes)
+				box.update();
+		}
+		taskManager.dispatchItemContainerChanged(event.getContainerId());
+		perfTimings.stop(PerfTimings.Metric.ITEM_CONTAINER_CHANGED, start);
 	}
 
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
 		if (!"birdhouse".equals(event.getGroup())) return;
+		// Posted on whichever thread changed the config; the task and the timings are client-thread only.
+		clientThread.invoke(this::applyConfigChange);
+	}
+
+	private void applyConfigChange()
+	{
+		long start = perfTimings.start();
+		configHolder.refresh();
+		applyPerfTimingsConfig();
 		sidePanel.refreshFromConfig();
 		taskManager.getTaskByType(BirdhouseTask.class).ifPresent(this::applyConfigToTask);
 		sidePanel.refreshItemList();
+		perfTimings.stop(PerfTimings.Metric.CONFIG_CHANGED, start);
 	}
 
 	@Override
 	public void onTaskStateChanged(Task task)
 	{
 		// Step guidance is shown only via StepGuidanceOverlay, not as an infobox.
+		// Each transition saves the run; the store coalesces and writes off the client thread.
+		if (!(task instanceof BirdhouseTask) || !task.isActive()) return;
+		long accountHash = client.getAccountHash();
+		if (accountHash != -1) runStateStore.save(accountHash, ((BirdhouseTask) task).toRunSnapshot().encode());
 	}
 }
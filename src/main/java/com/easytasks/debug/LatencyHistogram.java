@@ -0,0 +1,67 @@
+package com.easytasks.debug;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-memory log-linear histogram of nanosecond durations: four sub-buckets per power of two, so any
+ * reported percentile is within 25% of the true value and the whole thing is 256 longs regardless of
+ * how many samples are recorded. Not thread-safe; callers record and read on the client thread.
+ */
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+	private long total;
+	private long max;
+
+	public void record(long nanos)
+	{
+		if (nanos < 0) nanos = 0;
+		counts[bucketOf(nanos)]++;
+		total++;
+		if (nanos > max) max = nanos;
+	}
+
+	public long getCount() { return total; }
+	public long getMax() { return max; }
+
+	/** Lower bound of the bucket holding the given quantile (0..1), or 0 when empty. */
+	public long getPercentile(double quantile)
+	{
+		if (total == 0) return 0;
+		long target = Math.max(1, (long) Math.ceil(quantile * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += counts[i];
+			if (seen >= target) return Math.min(lowerBoundOf(i), max);
+		}
+		return max;
+	}
+
+	public void reset()
+	{
+		Arrays.fill(counts, 0);
+		total = 0;
+		max = 0;
+	}
+
+	static int bucketOf(long value)
+	{
+		if (value < SUB_BUCKETS) return (int) value;
+		int exp = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) ((value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+		return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	static long lowerBoundOf(int bucket)
+	{
+		if (bucket < SUB_BUCKETS) return bucket;
+		int exp = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long sub = bucket % SUB_BUCKETS;
+		return (SUB_BUCKETS | sub) << (exp - SUB_BUCKET_BITS);
+	}
+}
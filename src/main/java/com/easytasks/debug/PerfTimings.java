@@ -0,0 +1,80 @@
+package com.easytasks.debug;
+
+import com.google.inject.Singleton;
+
+/**
+ * Opt-in timing of overlay renders and plugin event handlers. Call sites bracket the work with
+ * {@link #start()} / {@link #stop}; while disabled, start() returns 0 without reading the clock and
+ * stop() returns on that sentinel, so the only cost is one volatile read per call site. The histograms
+ * are unsynchronized: record (and read) on the client thread only, marshalling handlers for events posted
+ * from other threads (e.g. ConfigChanged) onto it first.
+ */
+@Singleton
+public class PerfTimings
+{
+	public enum Metric
+	{
+		BIRDHOUSE_HIGHLIGHT("Birdhouse overlay"),
+		TELEPORT_HIGHLIGHT("Teleport overlay"),
+		SEED_HIGHLIGHT("Seed overlay"),
+		STEP_GUIDANCE("Step overlay"),
+		PATH_TRAIL("Path trail overlay"),
+		GAME_TICK("GameTick"),
+		VARBIT_CHANGED("VarbitChanged"),
+		MENU_OPTION_CLICKED("MenuOptionClicked"),
+		ITEM_CONTAINER_CHANGED("ItemContainerChanged"),
+		GAME_OBJECT_SPAWNED("GameObjectSpawned"),
+		GAME_OBJECT_DESPAWNED("GameObjectDespawned"),
+		GAME_STATE_CHANGED("GameStateChanged"),
+		CONFIG_CHANGED("ConfigChanged");
+
+		private final String label;
+
+		Metric(String label) { this.label = label; }
+
+		public String getLabel() { return label; }
+	}
+
+	private static final Metric[] METRICS = Metric.values();
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[METRICS.length];
+	private volatile boolean enabled;
+
+	public PerfTimings()
+	{
+		for (int i = 0; i < histograms.length; i++)
+			histograms[i] = new LatencyHistogram();
+	}
+
+	public boolean isEnabled() { return enabled; }
+
+	/** Turning timings on starts from empty histograms. */
+	public void setEnabled(boolean enabled)
+	{
+		if (enabled && !this.enabled) reset();
+		this.enabled = enabled;
+	}
+
+	/** Timestamp for {@link #stop}; 0 when disabled. */
+	public long start()
+	{
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/** Client thread only. */
+	public void stop(Metric metric, long start)
+	{
+		if (start == 0L || !enabled) return;
+		histograms[metric.ordinal()].record(System.nanoTime() - start);
+	}
+
+	public LatencyHistogram get(Metric metric)
+	{
+		return histograms[metric.ordinal()];
+	}
+
+	public void reset()
+	{
+		for (LatencyHistogram h : histograms) h.reset();
+	}
+}
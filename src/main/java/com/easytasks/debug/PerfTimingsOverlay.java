@@ -0,0 +1,69 @@
+package com.easytasks.debug;
+
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.PanelComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+import javax.inject.Inject;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+
+/**
+ * Debug panel listing p50 / p99 / max (microseconds) and sample count for every {@link PerfTimings.Metric}.
+ * Only added to the overlay manager while timings are enabled.
+ */
+public class PerfTimingsOverlay extends Overlay
+{
+	/** Text is rebuilt at most this often so the panel itself doesn't dominate the numbers it shows. */
+	private static final long REFRESH_NANOS = 500_000_000L;
+
+	private final PerfTimings timings;
+	private final PanelComponent panelComponent = new PanelComponent();
+	private long lastRefresh;
+
+	@Inject
+	public PerfTimingsOverlay(PerfTimings timings)
+	{
+		this.timings = timings;
+		setPosition(OverlayPosition.TOP_RIGHT);
+		setLayer(OverlayLayer.ABOVE_WIDGETS);
+		panelComponent.setPreferredSize(new Dimension(230, 0));
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		if (!timings.isEnabled()) return null;
+		long now = System.nanoTime();
+		if (panelComponent.getChildren().isEmpty() || now - lastRefresh >= REFRESH_NANOS)
+		{
+			rebuild();
+			lastRefresh = now;
+		}
+		return panelComponent.render(graphics);
+	}
+
+	private void rebuild()
+	{
+		panelComponent.getChildren().clear();
+		panelComponent.getChildren().add(TitleComponent.builder().text("Easy Tasks timings (us)").build());
+		panelComponent.getChildren().add(LineComponent.builder().left("").right("p50 / p99 / max  n").build());
+		for (PerfTimings.Metric metric : PerfTimings.Metric.values())
+		{
+			LatencyHistogram h = timings.get(metric);
+			if (h.getCount() == 0) continue;
+			panelComponent.getChildren().add(LineComponent.builder()
+				.left(metric.getLabel())
+				.right(micros(h.getPercentile(0.5)) + " / " + micros(h.getPercentile(0.99)) + " / " + micros(h.getMax()) + "  " + h.getCount())
+				.build());
+		}
+	}
+
+	private static String micros(long nanos)
+	{
+		return String.format("%.1f", nanos / 1000.0);
+	}
+}
@@ -0,0 +1,60 @@
+package com.easytasks.geometry;
+
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * World tile packed into one int: x in bits 0-14, y in bits 15-29, plane in bits 30-31. Two tiles are
+ * equal exactly when their packed values are, so hot paths compare, measure and bound-check ints
+ * instead of WorldPoints. Pack once where a WorldPoint enters (a game tick, static data), then stay packed.
+ */
+public final class PackedPoint
+{
+	/** No tile (e.g. player position not known yet). Never equal to a real tile, which has x and y below 32767. */
+	public static final int UNKNOWN = -1;
+
+	private PackedPoint() {}
+
+	public static int pack(int x, int y, int plane)
+	{
+		return (plane << 30) | ((y & 0x7FFF) << 15) | (x & 0x7FFF);
+	}
+
+	public static int pack(WorldPoint wp)
+	{
+		return pack(wp.getX(), wp.getY(), wp.getPlane());
+	}
+
+	public static int getX(int packed) { return packed & 0x7FFF; }
+	public static int getY(int packed) { return (packed >>> 15) & 0x7FFF; }
+	public static int getPlane(int packed) { return packed >>> 30; }
+
+	/** Map region id (64x64 tiles) containing the tile, as in {@code WorldPoint.getRegionID()}. */
+	public static int regionId(int packed)
+	{
+		return ((getX(packed) >> 6) << 8) | (getY(packed) >> 6);
+	}
+
+	/** Tiles between a and b counting diagonal steps as one; Integer.MAX_VALUE across planes or if either is UNKNOWN. */
+	public static int chebyshev(int a, int b)
+	{
+		if (a == UNKNOWN || b == UNKNOWN || getPlane(a) != getPlane(b)) return Integer.MAX_VALUE;
+		return Math.max(Math.abs(getX(a) - getX(b)), Math.abs(getY(a) - getY(b)));
+	}
+
+	public static boolean isWithinDistance(int a, int b, int distance)
+	{
+		return chebyshev(a, b) <= distance;
+	}
+
+	/**
+	 * True if the tile is on the plane of {@code min} and inside the box spanned by {@code min} and
+	 * {@code max} (inclusive). Both corners are packed tiles; max's plane is ignored.
+	 */
+	public static boolean inArea(int packed, int min, int max)
+	{
+		if (packed == UNKNOWN || getPlane(packed) != getPlane(min)) return false;
+		int x = getX(packed);
+		int y = getY(packed);
+		return x >= getX(min) && x <= getX(max) && y >= getY(min) && y <= getY(max);
+	}
+}
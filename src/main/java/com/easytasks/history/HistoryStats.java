@@ -0,0 +1,40 @@
+package com.easytasks.history;
+
+/** Immutable view of the run history aggregates, published to the side panel after each change. */
+public final class HistoryStats
+{
+	public static final HistoryStats EMPTY = new HistoryStats(0, 0, 0,
+		new long[RunStatistics.PATCH_COUNT], new long[RunStatistics.PATCH_COUNT], new int[RunStatistics.PATCH_COUNT], 0);
+
+	private final int completedRuns;
+	private final long meanRunMs;
+	private final long recentMeanRunMs;
+	/** By patch index; owned by this instance. */
+	private final long[] patchP50Ms;
+	private final long[] patchP90Ms;
+	private final int[] patchSamples;
+	private final double meanSeedsPerRun;
+
+	HistoryStats(int completedRuns, long meanRunMs, long recentMeanRunMs, long[] patchP50Ms, long[] patchP90Ms,
+		int[] patchSamples, double meanSeedsPerRun)
+	{
+		this.completedRuns = completedRuns;
+		this.meanRunMs = meanRunMs;
+		this.recentMeanRunMs = recentMeanRunMs;
+		this.patchP50Ms = patchP50Ms;
+		this.patchP90Ms = patchP90Ms;
+		this.patchSamples = patchSamples;
+		this.meanSeedsPerRun = meanSeedsPerRun;
+	}
+
+	public int getCompletedRuns() { return completedRuns; }
+	public long getMeanRunMs() { return meanRunMs; }
+	/** Mean over the last {@link RunStatistics#RECENT_RUNS} completed runs. */
+	public long getRecentMeanRunMs() { return recentMeanRunMs; }
+	public int getPatchCount() { return patchSamples.length; }
+	/** Time to a patch (by patch index): from the previous fill (or run start) to its fill, travel included. */
+	public long getPatchP50Ms(int patchIndex) { return patchP50Ms[patchIndex]; }
+	public long getPatchP90Ms(int patchIndex) { return patchP90Ms[patchIndex]; }
+	public int getPatchSamples(int patchIndex) { return patchSamples[patchIndex]; }
+	public double getMeanSeedsPerRun() { return meanSeedsPerRun; }
+}
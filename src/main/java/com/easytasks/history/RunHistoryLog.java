@@ -0,0 +1,280 @@
+package com.easytasks.history;
+
+import com.easytasks.BirdhouseConfig;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Append-only binary log of run events with streaming statistics. Callers on the client thread only
+ * enqueue a record; a background drain on the shared executor appends it, folds it into
+ * {@link RunStatistics} and publishes a fresh {@link HistoryStats}. On start the existing log is replayed
+ * through a read-only memory map. Once the file passes the configured size it is rotated to
+ * {@code history.bin.1} and compacted to its most recent runs.
+ */
+@Slf4j
+@Singleton
+public class RunHistoryLog
+{
+	static final int EVENT_RUN_START = 1;
+	static final int EVENT_PATCH_FILLED = 2;
+	static final int EVENT_RUN_COMPLETE = 3;
+	static final int EVENT_RUN_ABORTED = 4;
+
+	private static final int MAGIC = 0x45544848; // "ETHH"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+	/** timestamp (8), type (1), patch (1), reserved (2), seeds (4). */
+	static final int RECORD_SIZE = 16;
+
+	private static final File DIR = new File(RuneLite.RUNELITE_DIR, "easy-tasks");
+	private static final Path FILE = new File(DIR, "history.bin").toPath();
+	private static final Path ROTATED = new File(DIR, "history.bin.1").toPath();
+
+	private final ScheduledExecutorService executor;
+	private final BirdhouseConfig config;
+	private final ConcurrentLinkedQueue<ByteBuffer> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/** Writer-thread state. */
+	private RunStatistics statistics = new RunStatistics();
+	private FileChannel channel;
+	private Consumer<HistoryStats> listener;
+	private volatile HistoryStats stats = HistoryStats.EMPTY;
+
+	@Inject
+	public RunHistoryLog(ScheduledExecutorService executor, BirdhouseConfig config)
+	{
+		this.executor = executor;
+		this.config = config;
+	}
+
+	/** Opens and replays the log off the calling thread; {@code listener} receives stats after every change. */
+	public void start(Consumer<HistoryStats> listener)
+	{
+		executor.execute(() -> {
+			this.listener = listener;
+			statistics = new RunStatistics();
+			try
+			{
+				Files.createDirectories(DIR.toPath());
+				replay();
+				channel = FileChannel.open(FILE, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+				if (channel.size() == 0) channel.write(header());
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to open run history {}", FILE, e);
+			}
+			publish();
+		});
+	}
+
+	/** Flushes pending records and closes the file on the executor. */
+	public void stop()
+	{
+		executor.execute(() -> {
+			drain();
+			closeChannel();
+			listener = null;
+		});
+	}
+
+	public HistoryStats getStats() { return stats; }
+
+	public void runStarted(int seeds) { append(EVENT_RUN_START, -1, seeds); }
+	public void patchFilled(int patchIndex, int seeds) { append(EVENT_PATCH_FILLED, patchIndex, seeds); }
+	public void runCompleted(int seeds) { append(EVENT_RUN_COMPLETE, -1, seeds); }
+	public void runAborted(int seeds) { append(EVENT_RUN_ABORTED, -1, seeds); }
+
+	private void append(int type, int patchIndex, int seeds)
+	{
+		ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+		record.putLong(System.currentTimeMillis()).put((byte) type).put((byte) patchIndex).putShort((short) 0).putInt(seeds);
+		record.flip();
+		queue.add(record);
+		if (scheduled.compareAndSet(false, true))
+			executor.execute(this::drain);
+	}
+
+	private void drain()
+	{
+		scheduled.set(false);
+		boolean changed = false;
+		for (ByteBuffer record = queue.poll(); record != null; record = queue.poll())
+		{
+			accept(record, 0);
+			changed = true;
+			if (channel == null) continue;
+			try
+			{
+				record.rewind();
+				while (record.hasRemaining()) channel.write(record);
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to append run history", e);
+				closeChannel();
+			}
+		}
+		if (!changed) return;
+		publish();
+		compactIfNeeded();
+	}
+
+	private void accept(ByteBuffer buf, int offset)
+	{
+		long timestamp = buf.getLong(offset);
+		int type = buf.get(offset + 8);
+		int patch = buf.get(offset + 9);
+		int seeds = buf.getInt(offset + 12);
+		statistics.accept(type, timestamp, patch, seeds);
+	}
+
+	private void publish()
+	{
+		stats = statistics.snapshot();
+		if (listener != null) listener.accept(stats);
+	}
+
+	/**
+	 * Folds every record of the current file into the statistics through a read-only memory map. The header
+	 * is read and any partial header or torn trailing record (crash mid-append) cut off with plain channel
+	 * calls first: appends must land on a record boundary, and a mapped file can be neither truncated nor
+	 * moved on Windows.
+	 */
+	private void replay() throws IOException
+	{
+		if (!Files.exists(FILE)) return;
+		boolean unknownFormat = false;
+		try (FileChannel in = FileChannel.open(FILE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			long size = in.size();
+			if (size < HEADER_SIZE)
+			{
+				// start() writes a fresh header into the emptied file.
+				in.truncate(0);
+				return;
+			}
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while (header.hasRemaining() && in.read(header, header.position()) > 0) {}
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION)
+			{
+				unknownFormat = true;
+			}
+			else
+			{
+				int records = (int) ((size - HEADER_SIZE) / RECORD_SIZE);
+				long valid = HEADER_SIZE + (long) records * RECORD_SIZE;
+				if (size > valid) in.truncate(valid);
+				if (records > 0)
+				{
+					MappedByteBuffer map = in.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, valid - HEADER_SIZE);
+					for (int i = 0; i < records; i++)
+						accept(map, i * RECORD_SIZE);
+				}
+			}
+		}
+		if (unknownFormat)
+		{
+			log.warn("Ignoring run history with unknown format: {}", FILE);
+			Files.move(FILE, ROTATED, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Past the size limit: keep the full file as history.bin.1 and rewrite history.bin with the newest runs
+	 * (about half the limit, starting at a run start). In-memory statistics are unaffected.
+	 */
+	private void compactIfNeeded()
+	{
+		long limit = Math.max(16, config.historyMaxKb()) * 1024L;
+		try
+		{
+			if (channel == null || channel.size() <= limit) return;
+			closeChannel();
+			Path tmp = FILE.resolveSibling("history.bin.tmp");
+			try (FileChannel in = FileChannel.open(FILE, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+			{
+				// Plain channel reads here: a live mapping would stop the file from being moved on Windows.
+				int records = (int) ((in.size() - HEADER_SIZE) / RECORD_SIZE);
+				int keep = (int) (limit / 2 / RECORD_SIZE);
+				int first = Math.max(0, records - keep);
+				ByteBuffer type = ByteBuffer.allocate(1);
+				for (; first < records; first++)
+				{
+					type.clear();
+					in.read(type, HEADER_SIZE + (long) first * RECORD_SIZE + 8);
+					if (type.get(0) == EVENT_RUN_START) break;
+				}
+				out.write(header());
+				long from = HEADER_SIZE + (long) first * RECORD_SIZE;
+				long end = HEADER_SIZE + (long) records * RECORD_SIZE;
+				while (from < end) from += in.transferTo(from, end - from, out);
+			}
+			Files.move(FILE, ROTATED, StandardCopyOption.REPLACE_EXISTING);
+			try
+			{
+				Files.move(tmp, FILE, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(tmp, FILE);
+			}
+			channel = FileChannel.open(FILE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		}
+		catch (IOException e)
+		{
+			// e.g. the file is still mapped from replay on Windows; keep appending and retry on the next drain.
+			log.warn("Failed to compact run history", e);
+			reopenChannel();
+		}
+	}
+
+	private void reopenChannel()
+	{
+		if (channel != null) return;
+		try
+		{
+			channel = FileChannel.open(FILE, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+			if (channel.size() == 0) channel.write(header());
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to reopen run history {}", FILE, e);
+		}
+	}
+
+	private void closeChannel()
+	{
+		if (channel == null) return;
+		try { channel.close(); }
+		catch (IOException ignored) {}
+		channel = null;
+	}
+
+	private static ByteBuffer header()
+	{
+		ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE);
+		buf.putInt(MAGIC).putInt(VERSION);
+		buf.flip();
+		return buf;
+	}
+}
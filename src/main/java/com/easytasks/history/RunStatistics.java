@@ -0,0 +1,99 @@
+package com.easytasks.history;
+
+import com.easytasks.debug.LatencyHistogram;
+
+/**
+ * Streaming aggregates over run history events: each event updates running means, a per-patch
+ * log-linear percentile sketch and a rolling window in O(1), so stats never require rereading the log.
+ * Single-threaded; RunHistoryLog feeds it from its writer thread.
+ */
+final class RunStatistics
+{
+	static final int RECENT_RUNS = 10;
+	static final int PATCH_COUNT = 4;
+
+	/** Time to each patch, by patch index: routes differ, so each patch gets its own sketch. */
+	private final LatencyHistogram[] patchDurations = new LatencyHistogram[PATCH_COUNT];
+	private final long[] recentRuns = new long[RECENT_RUNS];
+	private int recentCount;
+	private int recentNext;
+	private long recentSum;
+
+	private int completedRuns;
+	private double meanRunMs;
+	private int seedSamples;
+	private double meanSeeds;
+
+	/** State of the run in progress; runStartMs 0 when none. */
+	private long runStartMs;
+	private long lastMarkMs;
+	private int startSeeds;
+
+	RunStatistics()
+	{
+		for (int i = 0; i < PATCH_COUNT; i++)
+			patchDurations[i] = new LatencyHistogram();
+	}
+
+	void accept(int type, long timestampMs, int patchIndex, int seeds)
+	{
+		switch (type)
+		{
+			case RunHistoryLog.EVENT_RUN_START:
+				runStartMs = timestampMs;
+				lastMarkMs = timestampMs;
+				startSeeds = seeds;
+				break;
+			case RunHistoryLog.EVENT_PATCH_FILLED:
+				if (runStartMs == 0) break;
+				if (patchIndex >= 0 && patchIndex < PATCH_COUNT)
+					patchDurations[patchIndex].record(timestampMs - lastMarkMs);
+				lastMarkMs = timestampMs;
+				break;
+			case RunHistoryLog.EVENT_RUN_COMPLETE:
+				if (runStartMs == 0) break;
+				recordRun(timestampMs - runStartMs, startSeeds - seeds);
+				runStartMs = 0;
+				break;
+			case RunHistoryLog.EVENT_RUN_ABORTED:
+				runStartMs = 0;
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void recordRun(long durationMs, int seedsUsed)
+	{
+		completedRuns++;
+		meanRunMs += (durationMs - meanRunMs) / completedRuns;
+
+		if (recentCount == RECENT_RUNS) recentSum -= recentRuns[recentNext];
+		else recentCount++;
+		recentRuns[recentNext] = durationMs;
+		recentSum += durationMs;
+		recentNext = (recentNext + 1) % RECENT_RUNS;
+
+		// Seeds bought mid-run would make this negative; skip rather than skew the mean.
+		if (seedsUsed >= 0)
+		{
+			seedSamples++;
+			meanSeeds += (seedsUsed - meanSeeds) / seedSamples;
+		}
+	}
+
+	HistoryStats snapshot()
+	{
+		long[] p50 = new long[PATCH_COUNT];
+		long[] p90 = new long[PATCH_COUNT];
+		int[] samples = new int[PATCH_COUNT];
+		for (int i = 0; i < PATCH_COUNT; i++)
+		{
+			p50[i] = patchDurations[i].getPercentile(0.5);
+			p90[i] = patchDurations[i].getPercentile(0.9);
+			samples[i] = (int) patchDurations[i].getCount();
+		}
+		return new HistoryStats(completedRuns, (long) meanRunMs,
+			recentCount == 0 ? 0 : recentSum / recentCount, p50, p90, samples, meanSeeds);
+	}
+}
@@ -1,17 +1,13 @@
 package com.easytasks.infoboxes;
 
+import com.easytasks.tasks.InventoryHistogram;
 import com.easytasks.tasks.Task;
-import net.runelite.api.Client;
-import net.runelite.api.InventoryID;
-import net.runelite.api.Item;
-import net.runelite.api.ItemContainer;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.ui.overlay.infobox.InfoBox;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
-import java.util.List;
 
 /**
  * Tracks a single required item and auto-removes when gathered.
@@ -23,18 +19,20 @@ public class ItemTrackingInfoBox extends InfoBox
 {
 	private final Task task;
 	private final Task.RequiredItem requiredItem;
-	private final Client client;
-	private final ItemManager itemManager;
-	private int missingCount = 0;
+	private final InventoryHistogram inventory;
+	/** Resolved once at construction (client thread) so inventory changes don't hit the item cache. */
+	private final String itemName;
+	private int missingCount = -1;
+	private String text = "";
 	private String tooltipText = "";
 
-	public ItemTrackingInfoBox(BufferedImage image, Plugin plugin, Task.RequiredItem requiredItem, Task task, Client client, ItemManager itemManager)
+	public ItemTrackingInfoBox(BufferedImage image, Plugin plugin, Task.RequiredItem requiredItem, Task task, InventoryHistogram inventory, ItemManager itemManager)
 	{
 		super(image, plugin);
 		this.requiredItem = requiredItem;
 		this.task = task;
-		this.client = client;
-		this.itemManager = itemManager;
+		this.inventory = inventory;
+		this.itemName = itemManager.getItemComposition(requiredItem.getItemId()).getName();
 		update();
 	}
 
@@ -42,9 +40,7 @@ public class ItemTrackingInfoBox extends InfoBox
 	@Override
 	public String getText()
 	{
-		if (missingCount > 0)
-			return missingCount + "x";
-		return "";
+		return text;
 	}
 
 	@Override
@@ -65,32 +61,24 @@ public class ItemTrackingInfoBox extends InfoBox
 		return tooltipText;
 	}
 
-	/** Called when inventory changes; recomputes missing count and tooltip for this item. */
+	/** Called when inventory changes; recomputes missing count, and the tooltip only if the count moved. */
 	public void update()
 	{
 		if (task == null || !task.isActive())
 		{
-			missingCount = 0;
+			missingCount = -1;
+			text = "";
 			tooltipText = "";
 			return;
 		}
-		ItemContainer inv = client.getItemContainer(InventoryID.INVENTORY);
-		int have = countItemsInList(inv, requiredItem.getItemIds());
-		missingCount = Math.max(0, requiredItem.getQuantity() - have);
-		String itemName = itemManager.getItemComposition(requiredItem.getItemId()).getName();
+		int missing = Math.max(0, requiredItem.getQuantity() - inventory.count(requiredItem));
+		if (missing == missingCount) return;
+		missingCount = missing;
+		text = missingCount > 0 ? missingCount + "x" : "";
 		if (missingCount > 0)
 			tooltipText = "Need " + missingCount + " more " + itemName;
 		else
 			tooltipText = itemName + ": Ready";
 		setTooltip(tooltipText);
 	}
-
-	private static int countItemsInList(ItemContainer container, List<Integer> itemIds)
-	{
-		if (container == null || itemIds == null) return 0;
-		int count = 0;
-		for (Item item : container.getItems())
-			if (itemIds.contains(item.getId())) count += item.getQuantity();
-		return count;
-	}
 }
@@ -1,9 +1,7 @@
 package com.easytasks.infoboxes;
 
-import com.easytasks.tasks.TaskStep;
 import com.easytasks.tasks.birdhouse.BirdhouseTask;
 import net.runelite.api.Client;
-import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.ui.overlay.infobox.InfoBox;
 
@@ -30,14 +28,8 @@ public class StepGuidanceInfoBox extends InfoBox
 	public String getText()
 	{
 		if (task == null || !task.isActive()) return "";
-		TaskStep step = task.getCurrentStep();
-		if (step == null) return "";
-		WorldPoint playerWp = client.getLocalPlayer() != null ? client.getLocalPlayer().getWorldLocation() : null;
-		int current = task.getCompletedSteps() + 1;
-		int total = task.getTotalSteps();
-		String instruction = task.getCurrentStepInstruction(playerWp);
-		if (instruction == null) instruction = step.getDescription();
-		return current + "/" + total + ": " + instruction;
+		String line = task.getGuidanceLine();
+		return line == null ? "" : line;
 	}
 
 	@Override
@@ -56,7 +48,6 @@ public class StepGuidanceInfoBox extends InfoBox
 	public void update()
 	{
 		if (task == null) return;
-		WorldPoint playerWp = client.getLocalPlayer() != null ? client.getLocalPlayer().getWorldLocation() : null;
-		String instruction = task.getCurrentStepInstruction(playerWp);
+		String instruction = task.getCurrentStepInstruction();
 		setTooltip(instruction != null ? instruction : "Progress: " + task.getProgress() + "%");
 	}}
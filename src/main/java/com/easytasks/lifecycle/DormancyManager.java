@@ -0,0 +1,184 @@
+package com.easytasks.lifecycle;
+
+import com.easytasks.tasks.Task;
+import com.easytasks.tasks.TaskManager;
+import com.google.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayManager;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Attaches the plugin's overlays and hot event subscribers only while they can do anything, so the plugin
+ * costs nothing in the rest of the game. Two scopes:
+ * <ul>
+ *   <li>run: attached while any task is registered (e.g. inventory tracking for the item infoboxes and the
+ *   step guidance panel, which matter while banking before the trip);</li>
+ *   <li>region: additionally requires one of the task's {@link Task#getRegionIds()} to be in the loaded map
+ *   (overlays, per-tick work).</li>
+ * </ul>
+ * Re-evaluated on task register/unregister and after every scene load. State changes run on the client thread.
+ */
+@Singleton
+public class DormancyManager implements TaskManager.TaskStateListener
+{
+	private final Client client;
+	private final ClientThread clientThread;
+	private final EventBus eventBus;
+	private final OverlayManager overlayManager;
+	private final TaskManager taskManager;
+
+	private final List<Overlay> runOverlays = new ArrayList<>();
+	private final List<Overlay> regionOverlays = new ArrayList<>();
+	private final List<Registration<?>> runSubscribers = new ArrayList<>();
+	private final List<Registration<?>> regionSubscribers = new ArrayList<>();
+	private Runnable onRunAttached;
+	private Runnable onRegionDetached;
+
+	private boolean runAttached;
+	private boolean regionAttached;
+
+	@Inject
+	public DormancyManager(Client client, ClientThread clientThread, EventBus eventBus, OverlayManager overlayManager, TaskManager taskManager)
+	{
+		this.client = client;
+		this.clientThread = clientThread;
+		this.eventBus = eventBus;
+		this.overlayManager = overlayManager;
+		this.taskManager = taskManager;
+	}
+
+	public void addRunOverlay(Overlay overlay) { runOverlays.add(overlay); }
+
+	public void addRegionOverlay(Overlay overlay) { regionOverlays.add(overlay); }
+
+	public <T> void addRunSubscriber(Class<T> eventType, Consumer<T> handler) { runSubscribers.add(new Registration<>(eventType, handler)); }
+
+	public <T> void addRegionSubscriber(Class<T> eventType, Consumer<T> handler) { regionSubscribers.add(new Registration<>(eventType, handler)); }
+
+	/** Runs on the client thread when run-scoped subscribers attach, to catch up on state missed while dormant. */
+	public void setOnRunAttached(Runnable onRunAttached) { this.onRunAttached = onRunAttached; }
+
+	/** Runs on the client thread when region-scoped overlays detach, to drop per-region state. */
+	public void setOnRegionDetached(Runnable onRegionDetached) { this.onRegionDetached = onRegionDetached; }
+
+	public void start()
+	{
+		taskManager.addTaskStateListener(this);
+		clientThread.invoke(this::update);
+	}
+
+	/** Detaches everything and forgets the registrations. */
+	public void stop()
+	{
+		taskManager.removeTaskStateListener(this);
+		setRegionAttached(false);
+		setRunAttached(false);
+		runOverlays.clear();
+		regionOverlays.clear();
+		runSubscribers.clear();
+		regionSubscribers.clear();
+		onRunAttached = null;
+		onRegionDetached = null;
+	}
+
+	@Override
+	public void onTaskRegistered(Task task)
+	{
+		clientThread.invoke(this::update);
+	}
+
+	@Override
+	public void onTaskUnregistered(Task task)
+	{
+		clientThread.invoke(this::update);
+	}
+
+	/** Client thread: attach or detach both scopes to match the registered tasks and loaded map regions. */
+	public void update()
+	{
+		List<Task> tasks = taskManager.getActiveTasks();
+		boolean inRegion = false;
+		for (Task task : tasks)
+		{
+			if (isInRegion(task.getRegionIds()))
+			{
+				inRegion = true;
+				break;
+			}
+		}
+		setRunAttached(!tasks.isEmpty());
+		setRegionAttached(inRegion);
+	}
+
+	private boolean isInRegion(int[] regionIds)
+	{
+		if (regionIds == null) return true;
+		int[] loaded = client.getMapRegions();
+		if (loaded == null) return false;
+		for (int loadedId : loaded)
+			for (int id : regionIds)
+				if (loadedId == id) return true;
+		return false;
+	}
+
+	private void setRunAttached(boolean attach)
+	{
+		if (attach == runAttached) return;
+		runAttached = attach;
+		for (Registration<?> r : runSubscribers)
+			r.setRegistered(eventBus, attach);
+		for (Overlay overlay : runOverlays)
+		{
+			if (attach) overlayManager.add(overlay);
+			else overlayManager.remove(overlay);
+		}
+		if (attach && onRunAttached != null) onRunAttached.run();
+	}
+
+	private void setRegionAttached(boolean attach)
+	{
+		if (attach == regionAttached) return;
+		regionAttached = attach;
+		for (Registration<?> r : regionSubscribers)
+			r.setRegistered(eventBus, attach);
+		for (Overlay overlay : regionOverlays)
+		{
+			if (attach) overlayManager.add(overlay);
+			else overlayManager.remove(overlay);
+		}
+		if (!attach && onRegionDetached != null) onRegionDetached.run();
+	}
+
+	public boolean isRegionAttached() { return regionAttached; }
+
+	private static final class Registration<T>
+	{
+		private final Class<T> eventType;
+		private final Consumer<T> handler;
+		private EventBus.Subscriber subscriber;
+
+		Registration(Class<T> eventType, Consumer<T> handler)
+		{
+			this.eventType = eventType;
+			this.handler = handler;
+		}
+
+		void setRegistered(EventBus eventBus, boolean register)
+		{
+			if (register && subscriber == null)
+				subscriber = eventBus.register(eventType, handler, 0);
+			else if (!register && subscriber != null)
+			{
+				eventBus.unregister(subscriber);
+				subscriber = null;
+			}
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.easytasks.overlays;
 
-import com.easytasks.BirdhouseConfig;
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.BirdhouseConfigSnapshot;
+import com.easytasks.debug.PerfTimings;
 import com.easytasks.tasks.TaskManager;
 import com.easytasks.tasks.birdhouse.BirdhouseData;
 import com.easytasks.tasks.birdhouse.BirdhouseLocation;
@@ -17,20 +19,35 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 
 import javax.inject.Inject;
 import java.awt.*;
+import java.util.List;
 import java.util.Optional;
 
 public class BirdhouseHighlightOverlay extends Overlay
 {
+	private static final int PATCH_COUNT = 4;
+
 	private final Client client;
-	private final BirdhouseConfig config;
+	private final BirdhouseConfigHolder configHolder;
 	private final TaskManager taskManager;
+	private final PerfTimings perfTimings;
+
+	/**
+	 * Projected hull per patch (by patch index) and the patch state it was taken in (the model changes with
+	 * the state). All hulls are reprojected when the camera key below changes or {@link #invalidateHulls()}
+	 * runs; with an idle camera a frame is draw calls only.
+	 */
+	private final Shape[] hulls = new Shape[PATCH_COUNT];
+	private final int[] hullStates = new int[PATCH_COUNT];
+	private final boolean[] hullValid = new boolean[PATCH_COUNT];
+	private final CameraKey cameraKey = new CameraKey();
 
 	@Inject
-	public BirdhouseHighlightOverlay(Client client, BirdhouseConfig config, TaskManager taskManager)
+	public BirdhouseHighlightOverlay(Client client, BirdhouseConfigHolder configHolder, TaskManager taskManager, PerfTimings perfTimings)
 	{
 		this.client = client;
-		this.config = config;
+		this.configHolder = configHolder;
 		this.taskManager = taskManager;
+		this.perfTimings = perfTimings;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 	}
@@ -38,49 +55,86 @@ public class BirdhouseHighlightOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		long start = perfTimings.start();
+		try
+		{
+			return renderHighlights(graphics);
+		}
+		finally
+		{
+			perfTimings.stop(PerfTimings.Metric.BIRDHOUSE_HIGHLIGHT, start);
+		}
+	}
+
+	private Dimension renderHighlights(Graphics2D graphics)
+	{
+		BirdhouseConfigSnapshot config = configHolder.get();
 		if (!config.highlightBirdhouses()) return null;
-		if (!BirdhouseData.isOnFossilIsland(client)) return null;
 		Optional<BirdhouseTask> opt = taskManager.getTaskByType(BirdhouseTask.class);
 		if (opt.isEmpty()) return null;
 		BirdhouseTask task = opt.get();
-		if (!task.isActive()) return null;
-		net.runelite.api.Scene scene = client.getScene();
-		int plane = client.getPlane();
+		if (!task.isActive() || !BirdhouseData.isOnFossilIsland(task.getPlayerTile())) return null;
+		if (cameraKey.update(client)) invalidateHulls();
 		BirdhouseLocation currentStepLoc = task.getCurrentStepLocation();
 		boolean fillWithSeeds = task.isCurrentStepFillWithSeeds();
-		for (BirdhouseLocation loc : task.getLocationsInRouteOrder())
+		Stroke stroke = config.highlightStroke();
+		List<BirdhouseLocation> route = task.getLocationsInRouteOrder();
+		for (int i = 0; i < route.size(); i++)
 		{
+			BirdhouseLocation loc = route.get(i);
 			if (loc.isVisited()) continue;
 			Color color;
+			int state = task.getPatchState(loc);
 			if (fillWithSeeds && loc == currentStepLoc)
 				color = Color.PINK;
-			else if (loc.isEmpty(client)) color = config.emptySlotColor();
-			else if (loc.isPlaced(client)) color = config.emptyBirdhouseColor();
-			else if (loc.isOccupied(client)) color = config.occupiedBirdhouseColor();
+			else if (state == BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED) color = config.emptySlotColor();
+			else if (state == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY) color = config.emptyBirdhouseColor();
+			else if (state == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL) color = config.occupiedBirdhouseColor();
 			else color = config.emptySlotColor();
-			WorldPoint wp = loc.getWorldPoint();
-			LocalPoint localPoint = LocalPoint.fromWorld(client, wp);
-			if (localPoint == null) continue;
-			Shape hull = null;
-			net.runelite.api.Tile tile = scene.getTiles()[plane][localPoint.getSceneX()][localPoint.getSceneY()];
-			if (tile != null)
-			{
-				for (TileObject obj : tile.getGameObjects())
-				{
-					if (obj == null) continue;
-					Shape box = obj.getClickbox();
-					if (box != null)
-					{
-						hull = box;
-						break;
-					}
-				}
-			}
-			if (hull == null)
-				hull = Perspective.getCanvasTilePoly(client, localPoint);
+			Shape hull = getHull(loc, state);
 			if (hull != null)
-				OverlayUtil.renderPolygon(graphics, hull, color, new BasicStroke(config.highlightThickness()));
+				OverlayUtil.renderPolygon(graphics, hull, color, HighlightStyle.FILL, stroke);
 		}
 		return null;
 	}
+
+	/** Drops every cached hull; called on scene reload (objects and tiles are replaced). */
+	public void invalidateHulls()
+	{
+		for (int i = 0; i < PATCH_COUNT; i++)
+		{
+			hullValid[i] = false;
+			hulls[i] = null;
+		}
+	}
+
+	private Shape getHull(BirdhouseLocation loc, int state)
+	{
+		int i = loc.getPatchIndex();
+		if (!hullValid[i] || hullStates[i] != state)
+		{
+			hulls[i] = projectHull(loc.getWorldPoint());
+			hullStates[i] = state;
+			hullValid[i] = true;
+		}
+		return hulls[i];
+	}
+
+	/** Patch object's clickbox, or its tile polygon when the object has none; null when off-scene. */
+	private Shape projectHull(WorldPoint wp)
+	{
+		LocalPoint localPoint = LocalPoint.fromWorld(client, wp);
+		if (localPoint == null || client.getScene() == null) return null;
+		net.runelite.api.Tile tile = client.getScene().getTiles()[client.getPlane()][localPoint.getSceneX()][localPoint.getSceneY()];
+		if (tile != null)
+		{
+			for (TileObject obj : tile.getGameObjects())
+			{
+				if (obj == null) continue;
+				Shape box = obj.getClickbox();
+				if (box != null) return box;
+			}
+		}
+		return Perspective.getCanvasTilePoly(client, localPoint);
+	}
 }
@@ -0,0 +1,56 @@
+package com.easytasks.overlays;
+
+import net.runelite.api.Client;
+
+/**
+ * Camera position, orientation, zoom, viewport size and offset, and plane as of the last check. Projected
+ * hulls stay valid until any of these change, so overlays cache them against one of these. The offset
+ * matters on its own: switching fixed/resizable mode or the side panel can move the viewport at the same
+ * size. Render thread only.
+ */
+final class CameraKey
+{
+	private int cameraX;
+	private int cameraY;
+	private int cameraZ;
+	private int cameraYaw;
+	private int cameraPitch;
+	private int cameraScale;
+	private int viewportWidth;
+	private int viewportHeight;
+	private int viewportX;
+	private int viewportY;
+	private int cameraPlane = -1;
+
+	/** Compares the client's current camera with the stored key, updating it; true when anything changed. */
+	boolean update(Client client)
+	{
+		int x = client.getCameraX();
+		int y = client.getCameraY();
+		int z = client.getCameraZ();
+		int yaw = client.getCameraYaw();
+		int pitch = client.getCameraPitch();
+		int scale = client.getScale();
+		int width = client.getViewportWidth();
+		int height = client.getViewportHeight();
+		int offsetX = client.getViewportXOffset();
+		int offsetY = client.getViewportYOffset();
+		int plane = client.getPlane();
+		if (x == cameraX && y == cameraY && z == cameraZ && yaw == cameraYaw && pitch == cameraPitch
+			&& scale == cameraScale && width == viewportWidth && height == viewportHeight
+			&& offsetX == viewportX && offsetY == viewportY && plane == cameraPlane)
+			return false;
+		cameraX = x;
+		cameraY = y;
+		cameraZ = z;
+		cameraYaw = yaw;
+		cameraPitch = pitch;
+		cameraScale = scale;
+		viewportWidth = width;
+		viewportHeight = height;
+		viewportX = offsetX;
+		viewportY = offsetY;
+		cameraPlane = plane;
+		return true;
+	}
+}
@@ -0,0 +1,12 @@
+package com.easytasks.overlays;
+
+import java.awt.Color;
+
+/** Shared drawing constants for the highlight overlays, so they are not rebuilt per shape per frame. */
+final class HighlightStyle
+{
+	/** Same translucent fill OverlayUtil.renderPolygon uses by default, which it allocates on every call. */
+	static final Color FILL = new Color(0, 0, 0, 50);
+
+	private HighlightStyle() {}
+}
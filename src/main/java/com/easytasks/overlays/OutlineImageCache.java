@@ -0,0 +1,84 @@
+package com.easytasks.overlays;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+/**
+ * Small fixed-size LRU of item outline images keyed by (itemId, quantity bucket, color), so widget
+ * overlays don't ask ItemManager for an outline on every frame. Keys are packed into a long and
+ * looked up with a linear scan, which for a few dozen entries is cheaper than hashing and never
+ * allocates. Client thread only.
+ */
+public class OutlineImageCache
+{
+	private final long[] keys;
+	private final BufferedImage[] images;
+	private final long[] lastUsed;
+	private int size;
+	private long clock;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public OutlineImageCache(int capacity)
+	{
+		keys = new long[capacity];
+		images = new BufferedImage[capacity];
+		lastUsed = new long[capacity];
+	}
+
+	/**
+	 * Packs an entry key. Quantity only matters for single items vs stacks (seeds have no
+	 * count-dependent sprites), so every stack of the same item shares one outline.
+	 */
+	public static long key(int itemId, int quantity, Color color)
+	{
+		long bucket = quantity > 1 ? 1 : 0;
+		return ((long) itemId << 33) | (bucket << 32) | (color.getRGB() & 0xFFFFFFFFL);
+	}
+
+	/** Cached image for the key, or null on a miss (caller renders and {@link #put}s it). */
+	public BufferedImage get(long key)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			if (keys[i] == key)
+			{
+				lastUsed[i] = ++clock;
+				hits++;
+				return images[i];
+			}
+		}
+		misses++;
+		return null;
+	}
+
+	/** Stores an image, evicting the least recently used entry when full. Null images are not cached. */
+	public void put(long key, BufferedImage image)
+	{
+		if (image == null) return;
+		int slot;
+		if (size < keys.length) slot = size++;
+		else
+		{
+			slot = 0;
+			for (int i = 1; i < size; i++)
+				if (lastUsed[i] < lastUsed[slot]) slot = i;
+			evictions++;
+		}
+		keys[slot] = key;
+		images[slot] = image;
+		lastUsed[slot] = ++clock;
+	}
+
+	public void clear()
+	{
+		for (int i = 0; i < size; i++) images[i] = null;
+		size = 0;
+	}
+
+	public int size() { return size; }
+	public long getHits() { return hits; }
+	public long getMisses() { return misses; }
+	public long getEvictions() { return evictions; }
+}
@@ -0,0 +1,110 @@
+package com.easytasks.overlays;
+
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.BirdhouseConfigSnapshot;
+import com.easytasks.debug.PerfTimings;
+import com.easytasks.pathing.PathTracker;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayUtil;
+
+import javax.inject.Inject;
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Tile trail from the player to the current step's patch while walking. The trail itself is kept by
+ * {@link PathTracker} (updated on GameTick); this only projects its tiles, caching each tile's polygon
+ * until the camera key changes, the tile at that trail position changes, or the scene reloads.
+ */
+public class PathTrailOverlay extends Overlay
+{
+	private static final Stroke TRAIL_STROKE = new BasicStroke(1);
+
+	private final Client client;
+	private final BirdhouseConfigHolder configHolder;
+	private final TaskManager taskManager;
+	private final PathTracker pathTracker;
+	private final PerfTimings perfTimings;
+
+	/** Projected polygon per trail position and the scene tile it was projected for (-1: none). */
+	private final Polygon[] polys = new Polygon[PathTracker.MAX_TRAIL];
+	private final int[] polyTiles = new int[PathTracker.MAX_TRAIL];
+	private final CameraKey cameraKey = new CameraKey();
+
+	@Inject
+	public PathTrailOverlay(Client client, BirdhouseConfigHolder configHolder, TaskManager taskManager, PathTracker pathTracker, PerfTimings perfTimings)
+	{
+		this.client = client;
+		this.configHolder = configHolder;
+		this.taskManager = taskManager;
+		this.pathTracker = pathTracker;
+		this.perfTimings = perfTimings;
+		setPosition(OverlayPosition.DYNAMIC);
+		setLayer(OverlayLayer.ABOVE_SCENE);
+		Arrays.fill(polyTiles, -1);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		long start = perfTimings.start();
+		try
+		{
+			return renderTrail(graphics);
+		}
+		finally
+		{
+			perfTimings.stop(PerfTimings.Metric.PATH_TRAIL, start);
+		}
+	}
+
+	private Dimension renderTrail(Graphics2D graphics)
+	{
+		BirdhouseConfigSnapshot config = configHolder.get();
+		if (!config.showPathTrail()) return null;
+		// Last trail tile is the patch itself, which BirdhouseHighlightOverlay already outlines.
+		int length = pathTracker.getTrailLength() - 1;
+		if (length <= 0) return null;
+		Optional<BirdhouseTask> opt = taskManager.getTaskByType(BirdhouseTask.class);
+		if (opt.isEmpty() || !opt.get().isActive()) return null;
+		if (cameraKey.update(client)) invalidatePolygons();
+		Color color = config.pathTrailColor();
+		for (int i = 0; i < length; i++)
+		{
+			Polygon poly = getPolygon(i);
+			if (poly != null)
+				OverlayUtil.renderPolygon(graphics, poly, color, HighlightStyle.FILL, TRAIL_STROKE);
+		}
+		return null;
+	}
+
+	/** Drops every cached polygon; called on scene reload (scene coordinates are rebased). */
+	public void invalidatePolygons()
+	{
+		for (int i = 0; i < polys.length; i++)
+		{
+			polys[i] = null;
+			polyTiles[i] = -1;
+		}
+	}
+
+	private Polygon getPolygon(int i)
+	{
+		int tile = pathTracker.getTrailTile(i);
+		if (polyTiles[i] != tile)
+		{
+			LocalPoint lp = LocalPoint.fromScene(pathTracker.getTrailSceneX(i), pathTracker.getTrailSceneY(i), client.getTopLevelWorldView());
+			polys[i] = Perspective.getCanvasTilePoly(client, lp);
+			polyTiles[i] = tile;
+		}
+		return polys[i];
+	}
+}
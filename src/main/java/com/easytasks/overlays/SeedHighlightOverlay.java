@@ -1,8 +1,10 @@
 package com.easytasks.overlays;
 
-import com.easytasks.BirdhouseConfig;
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.BirdhouseConfigSnapshot;
+import com.easytasks.debug.PerfTimings;
 import com.easytasks.tasks.TaskManager;
-import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseRequirement;
 import com.easytasks.tasks.birdhouse.BirdhouseTask;
 import net.runelite.api.widgets.WidgetItem;
 import net.runelite.client.game.ItemManager;
@@ -14,39 +16,66 @@ import java.awt.image.BufferedImage;
 
 public class SeedHighlightOverlay extends WidgetItemOverlay
 {
-	private final BirdhouseConfig config;
+	private final BirdhouseConfigHolder configHolder;
 	private final TaskManager taskManager;
 	private final ItemManager itemManager;
+	private final PerfTimings perfTimings;
 
 	private static final Color USE_ON_BIRDHOUSE_COLOR = Color.PINK;
+	private static final Stroke FALLBACK_STROKE = new BasicStroke(2);
+	/** Room for every seed type in both quantity buckets, with headroom for other colors. */
+	private static final int OUTLINE_CACHE_SIZE = 32;
+
+	private final OutlineImageCache outlineCache = new OutlineImageCache(OUTLINE_CACHE_SIZE);
 
 	@Inject
-	public SeedHighlightOverlay(BirdhouseConfig config, TaskManager taskManager, ItemManager itemManager)
+	public SeedHighlightOverlay(BirdhouseConfigHolder configHolder, TaskManager taskManager, ItemManager itemManager, PerfTimings perfTimings)
 	{
-		this.config = config;
+		this.configHolder = configHolder;
 		this.taskManager = taskManager;
 		this.itemManager = itemManager;
+		this.perfTimings = perfTimings;
 		showOnInventory();
 	}
 
 	@Override
 	public void renderItemOverlay(Graphics2D graphics, int itemId, WidgetItem widgetItem)
 	{
+		long start = perfTimings.start();
+		try
+		{
+			renderSeedOutline(graphics, itemId, widgetItem);
+		}
+		finally
+		{
+			perfTimings.stop(PerfTimings.Metric.SEED_HIGHLIGHT, start);
+		}
+	}
+
+	private void renderSeedOutline(Graphics2D graphics, int itemId, WidgetItem widgetItem)
+	{
+		BirdhouseConfigSnapshot config = configHolder.get();
 		if (!config.highlightBirdhouses()) return;
 		var opt = taskManager.getTaskByType(BirdhouseTask.class);
 		if (opt.isEmpty()) return;
 		BirdhouseTask task = opt.get();
 		if (!task.isActive() || !task.isCurrentStepFillWithSeeds()) return;
 		// Highlight any valid birdhouse seed (all 6 types), not just the configured seed
-		if (!BirdhouseData.SEED_IDS.contains(itemId)) return;
+		if (!BirdhouseRequirement.ANY_SEED.matches(itemId)) return;
 		Rectangle bounds = widgetItem.getCanvasBounds();
-		BufferedImage outline = itemManager.getItemOutline(itemId, widgetItem.getQuantity(), USE_ON_BIRDHOUSE_COLOR);
+		long key = OutlineImageCache.key(itemId, widgetItem.getQuantity(), USE_ON_BIRDHOUSE_COLOR);
+		BufferedImage outline = outlineCache.get(key);
+		if (outline == null)
+		{
+			outline = itemManager.getItemOutline(itemId, widgetItem.getQuantity(), USE_ON_BIRDHOUSE_COLOR);
+			outlineCache.put(key, outline);
+		}
 		if (outline != null)
 			graphics.drawImage(outline, (int) bounds.getX(), (int) bounds.getY(), null);
 		else
 		{
 			graphics.setColor(USE_ON_BIRDHOUSE_COLOR);
-			graphics.setStroke(new BasicStroke(2));
+			graphics.setStroke(FALLBACK_STROKE);
 			graphics.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
 		}
 	}
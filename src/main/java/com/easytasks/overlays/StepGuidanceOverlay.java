@@ -1,11 +1,13 @@
 package com.easytasks.overlays;
 
-import com.easytasks.BirdhouseConfig;
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.BirdhouseConfigSnapshot;
+import com.easytasks.debug.PerfTimings;
+import com.easytasks.pathing.DistanceField;
+import com.easytasks.pathing.PathTracker;
 import com.easytasks.tasks.TaskManager;
-import com.easytasks.tasks.TaskStep;
 import com.easytasks.tasks.birdhouse.BirdhouseTask;
 import net.runelite.api.Client;
-import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -23,16 +25,22 @@ import java.util.Optional;
 public class StepGuidanceOverlay extends Overlay
 {
 	private final Client client;
-	private final BirdhouseConfig config;
+	private final BirdhouseConfigHolder configHolder;
 	private final TaskManager taskManager;
+	private final PathTracker pathTracker;
+	private final PerfTimings perfTimings;
 	private final PanelComponent panelComponent = new PanelComponent();
+	private String renderedText;
+	private int renderedTiles = DistanceField.UNREACHABLE;
 
 	@Inject
-	public StepGuidanceOverlay(Client client, BirdhouseConfig config, TaskManager taskManager)
+	public StepGuidanceOverlay(Client client, BirdhouseConfigHolder configHolder, TaskManager taskManager, PathTracker pathTracker, PerfTimings perfTimings)
 	{
 		this.client = client;
-		this.config = config;
+		this.configHolder = configHolder;
 		this.taskManager = taskManager;
+		this.pathTracker = pathTracker;
+		this.perfTimings = perfTimings;
 		setPosition(OverlayPosition.TOP_LEFT);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
 	}
@@ -40,22 +48,41 @@ public class StepGuidanceOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		long start = perfTimings.start();
+		try
+		{
+			return renderGuidance(graphics);
+		}
+		finally
+		{
+			perfTimings.stop(PerfTimings.Metric.STEP_GUIDANCE, start);
+		}
+	}
+
+	private Dimension renderGuidance(Graphics2D graphics)
+	{
+		BirdhouseConfigSnapshot config = configHolder.get();
 		if (!config.showStepGuidance()) return null;
 		Optional<BirdhouseTask> opt = taskManager.getTaskByType(BirdhouseTask.class);
 		if (opt.isEmpty() || !opt.get().isActive()) return null;
 
-		BirdhouseTask task = opt.get();
-		TaskStep step = task.getCurrentStep();
-		if (step == null) return null;
-
-		panelComponent.getChildren().clear();
-		WorldPoint playerWp = client.getLocalPlayer() != null ? client.getLocalPlayer().getWorldLocation() : null;
-		int current = task.getCompletedSteps() + 1;
-		int total = task.getTotalSteps();
-		String instruction = task.getCurrentStepInstruction(playerWp);
-		if (instruction == null) instruction = step.getDescription();
-		String text = current + "/" + total + ": " + instruction;
-		panelComponent.getChildren().add(LineComponent.builder().left(text).build());
+		String text = opt.get().getGuidanceLine();
+		if (text == null) return null;
+
+		// Walking distance to the patch; only shown while the trail is on and there is somewhere to walk.
+		int tiles = config.showPathTrail() && pathTracker.getRemainingTiles() > 1
+			? pathTracker.getRemainingTiles() : DistanceField.UNREACHABLE;
+
+		// getGuidanceLine returns the same String until the task's state version changes.
+		if (text != renderedText || tiles != renderedTiles)
+		{
+			panelComponent.getChildren().clear();
+			panelComponent.getChildren().add(LineComponent.builder().left(text).build());
+			if (tiles != DistanceField.UNREACHABLE)
+				panelComponent.getChildren().add(LineComponent.builder().left("Walk").right(tiles + " tiles").build());
+			renderedText = text;
+			renderedTiles = tiles;
+		}
 		return panelComponent.render(graphics);
 	}
 }
@@ -1,6 +1,10 @@
 package com.easytasks.overlays;
 
-import com.easytasks.BirdhouseConfig;
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.BirdhouseConfigSnapshot;
+import com.easytasks.debug.PerfTimings;
+import com.easytasks.geometry.PackedPoint;
+import com.easytasks.scene.SceneObjectIndex;
 import com.easytasks.tasks.TaskManager;
 import com.easytasks.tasks.TaskStep;
 import com.easytasks.tasks.birdhouse.BirdhouseData;
@@ -10,7 +14,6 @@ import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.TileObject;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -18,22 +21,40 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 
 import javax.inject.Inject;
 import java.awt.*;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class TeleportHighlightOverlay extends Overlay
 {
+	/** A patch's own teleports plus the mushroom tree; sized well above what any location needs. */
+	private static final int MAX_TELEPORT_IDS = 8;
+
 	private final Client client;
-	private final BirdhouseConfig config;
+	private final BirdhouseConfigHolder configHolder;
 	private final TaskManager taskManager;
+	private final SceneObjectIndex sceneObjectIndex;
+	private final PerfTimings perfTimings;
+	/** Scratch buffer for the current frame's teleport object ids; render thread only. */
+	private final int[] teleportIds = new int[MAX_TELEPORT_IDS];
+
+	/**
+	 * Projected hulls of the teleport objects looked at so far, by object identity (null when an object had
+	 * no hull). Cleared when the camera key changes or {@link #invalidateHulls()} runs; with an idle camera a
+	 * frame is draw calls only.
+	 */
+	private final TileObject[] hullObjects = new TileObject[MAX_TELEPORT_IDS];
+	private final Shape[] hulls = new Shape[MAX_TELEPORT_IDS];
+	private int hullCount;
+	private final CameraKey cameraKey = new CameraKey();
 
 	@Inject
-	public TeleportHighlightOverlay(Client client, BirdhouseConfig config, TaskManager taskManager)
+	public TeleportHighlightOverlay(Client client, BirdhouseConfigHolder configHolder, TaskManager taskManager, SceneObjectIndex sceneObjectIndex, PerfTimings perfTimings)
 	{
 		this.client = client;
-		this.config = config;
+		this.configHolder = configHolder;
 		this.taskManager = taskManager;
+		this.sceneObjectIndex = sceneObjectIndex;
+		this.perfTimings = perfTimings;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 	}
@@ -41,86 +62,117 @@ public class TeleportHighlightOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		long start = perfTimings.start();
+		try
+		{
+			return renderHighlights(graphics);
+		}
+		finally
+		{
+			perfTimings.stop(PerfTimings.Metric.TELEPORT_HIGHLIGHT, start);
+		}
+	}
+
+	private Dimension renderHighlights(Graphics2D graphics)
+	{
+		BirdhouseConfigSnapshot config = configHolder.get();
 		if (!config.highlightTeleports()) return null;
-		if (!BirdhouseData.isOnFossilIsland(client)) return null;
 		Optional<BirdhouseTask> opt = taskManager.getTaskByType(BirdhouseTask.class);
 		if (opt.isEmpty()) return null;
 		BirdhouseTask task = opt.get();
-		if (!task.isActive()) return null;
+		if (!task.isActive() || !BirdhouseData.isOnFossilIsland(task.getPlayerTile())) return null;
 		TaskStep step = task.getCurrentStep();
 		if (step == null) return null;
-		List<Integer> teleportIds = getTeleportIdsForNextStep(task, step);
-		if (teleportIds.isEmpty()) return null;
+		int idCount = collectTeleportIdsForNextStep(task, step);
+		if (idCount == 0) return null;
+		if (cameraKey.update(client)) invalidateHulls();
 		Color color = config.teleportColor();
-		net.runelite.api.Scene scene = client.getScene();
 		int plane = client.getPlane();
-		for (int x = 0; x < 104; x++)
+		for (int i = 0; i < idCount; i++)
 		{
-			for (int y = 0; y < 104; y++)
+			List<TileObject> objs = sceneObjectIndex.getObjects(teleportIds[i]);
+			for (int j = 0; j < objs.size(); j++)
 			{
-				net.runelite.api.Tile tile = scene.getTiles()[plane][x][y];
-				if (tile == null) continue;
-				for (TileObject obj : tile.getGameObjects())
+				TileObject obj = objs.get(j);
+				if (obj.getPlane() != plane) continue;
+				Shape hull = getHull(obj);
+				if (hull != null)
 				{
-					if (obj == null) continue;
-					if (!teleportIds.contains(obj.getId())) continue;
-					Shape hull = obj.getClickbox();
-					if (hull == null)
-					{
-						LocalPoint lp = obj.getLocalLocation();
-						hull = Perspective.getCanvasTilePoly(client, lp);
-					}
-					if (hull != null)
-					{
-						OverlayUtil.renderPolygon(graphics, hull, color, new BasicStroke(config.highlightThickness()));
-						return null;
-					}
+					OverlayUtil.renderPolygon(graphics, hull, color, HighlightStyle.FILL, config.highlightStroke());
+					return null;
 				}
 			}
 		}
 		return null;
 	}
 
-	private List<Integer> getTeleportIdsForNextStep(BirdhouseTask task, TaskStep step)
+	/** Drops every cached hull; called on scene reload (objects and tiles are replaced). */
+	public void invalidateHulls()
+	{
+		for (int i = 0; i < hullCount; i++)
+		{
+			hullObjects[i] = null;
+			hulls[i] = null;
+		}
+		hullCount = 0;
+	}
+
+	private Shape getHull(TileObject obj)
+	{
+		for (int i = 0; i < hullCount; i++)
+			if (hullObjects[i] == obj) return hulls[i];
+		// Full only if objects despawned and respawned under a still camera; start over.
+		if (hullCount == hullObjects.length) invalidateHulls();
+		Shape hull = projectHull(obj);
+		hullObjects[hullCount] = obj;
+		hulls[hullCount++] = hull;
+		return hull;
+	}
+
+	/** Object's clickbox, or its tile polygon when it has none; null when off-screen. */
+	private Shape projectHull(TileObject obj)
+	{
+		Shape hull = obj.getClickbox();
+		if (hull != null) return hull;
+		LocalPoint lp = obj.getLocalLocation();
+		return lp == null ? null : Perspective.getCanvasTilePoly(client, lp);
+	}
+
+	/** Fills {@link #teleportIds} with the objects to highlight for the step and returns how many there are. */
+	private int collectTeleportIdsForNextStep(BirdhouseTask task, TaskStep step)
 	{
-		WorldPoint targetWp = step.getLocation();
+		if (step.getLocation() == null) return 0;
+		int target = PackedPoint.pack(step.getLocation());
 		List<BirdhouseLocation> ordered = task.getLocationsInRouteOrder();
 		int targetIndex = -1;
 		BirdhouseLocation targetLoc = null;
 		for (int i = 0; i < ordered.size(); i++)
 		{
-			if (ordered.get(i).getWorldPoint().equals(targetWp))
+			if (ordered.get(i).getPackedPoint() == target)
 			{
 				targetIndex = i;
 				targetLoc = ordered.get(i);
 				break;
 			}
 		}
-		if (targetLoc == null) return List.of();
-		List<Integer> ids = new ArrayList<>(targetLoc.getTeleportObjectIds());
+		if (targetLoc == null) return 0;
+		List<Integer> ids = targetLoc.getTeleportObjectIds();
+		int n = 0;
+		for (int i = 0; i < ids.size() && n < MAX_TELEPORT_IDS - 1; i++)
+			teleportIds[n++] = ids.get(i);
 		// Only highlight mushroom tree when moving between (Tar Swamp or Forest) and (Verdant Valley N/S)
 		BirdhouseLocation fromLoc = targetIndex > 0 ? ordered.get(targetIndex - 1) : null;
 		if (fromLoc != null && isMushroomTreeNeeded(fromLoc, targetLoc))
-			ids.add(BirdhouseData.MUSHROOM_TREE_TO_VALLEY_OBJECT_ID);
-		return ids;
+			teleportIds[n++] = BirdhouseData.MUSHROOM_TREE_TO_VALLEY_OBJECT_ID;
+		return n;
 	}
 
 	private static boolean isMushroomTreeNeeded(BirdhouseLocation from, BirdhouseLocation to)
 	{
-		boolean fromValley = isVerdantValley(from.getWorldPoint());
-		boolean toValley = isVerdantValley(to.getWorldPoint());
-		boolean fromForestOrSwamp = isMushroomForestOrTarSwamp(from.getWorldPoint());
-		boolean toForestOrSwamp = isMushroomForestOrTarSwamp(to.getWorldPoint());
+		boolean fromValley = BirdhouseData.isVerdantValley(from.getPackedPoint());
+		boolean toValley = BirdhouseData.isVerdantValley(to.getPackedPoint());
+		boolean fromForestOrSwamp = BirdhouseData.isMushroomForestOrTarSwamp(from.getPackedPoint());
+		boolean toForestOrSwamp = BirdhouseData.isMushroomForestOrTarSwamp(to.getPackedPoint());
 		return (fromValley && toForestOrSwamp) || (fromForestOrSwamp && toValley);
 	}
-
-	private static boolean isVerdantValley(WorldPoint wp)
-	{
-		return wp.equals(BirdhouseData.VERDANT_VALLEY_NORTH) || wp.equals(BirdhouseData.VERDANT_VALLEY_SOUTH);
-	}
-
-	private static boolean isMushroomForestOrTarSwamp(WorldPoint wp)
-	{
-		return wp.equals(BirdhouseData.MUSHROOM_FOREST) || wp.equals(BirdhouseData.TAR_SWAMP);
-	}
 }
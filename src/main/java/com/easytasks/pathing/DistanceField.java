@@ -0,0 +1,155 @@
+package com.easytasks.pathing;
+
+import net.runelite.api.CollisionDataFlag;
+
+import java.util.Arrays;
+
+/**
+ * Walking distance (in tiles) from every tile of a loaded scene plane to one target tile, computed by a
+ * single BFS over the scene's collision flags. After that, the distance from any tile is one array read
+ * and the path is a walk along the BFS next-hop links. Immutable once built.
+ */
+public final class DistanceField
+{
+	public static final int SCENE_SIZE = 104;
+	public static final int UNREACHABLE = -1;
+
+	/** Step order for BFS and path walking: orthogonal first so trails prefer straight lines. */
+	private static final int[] DX = {0, 1, 0, -1, 1, 1, -1, -1};
+	private static final int[] DY = {1, 0, -1, 0, 1, -1, -1, 1};
+
+	private final int baseX;
+	private final int baseY;
+	private final int plane;
+	private final int targetX;
+	private final int targetY;
+	private final int[] distances;
+	/** Scene index of the next tile towards the target, per tile; -1 for the target and unreachable tiles. */
+	private final int[] nextHops;
+
+	private DistanceField(int baseX, int baseY, int plane, int targetX, int targetY, int[] distances, int[] nextHops)
+	{
+		this.baseX = baseX;
+		this.baseY = baseY;
+		this.plane = plane;
+		this.targetX = targetX;
+		this.targetY = targetY;
+		this.distances = distances;
+		this.nextHops = nextHops;
+	}
+
+	/**
+	 * BFS outwards from the target scene tile. The target itself is usually blocked (it holds the patch
+	 * object), so it is seeded directly and only its neighbours' movement flags are checked.
+	 */
+	public static DistanceField compute(int[][] flags, int baseX, int baseY, int plane, int targetX, int targetY)
+	{
+		int[] dist = new int[SCENE_SIZE * SCENE_SIZE];
+		int[] next = new int[SCENE_SIZE * SCENE_SIZE];
+		Arrays.fill(dist, UNREACHABLE);
+		Arrays.fill(next, -1);
+		if (!inScene(targetX, targetY))
+			return new DistanceField(baseX, baseY, plane, targetX, targetY, dist, next);
+
+		int[] queue = new int[SCENE_SIZE * SCENE_SIZE];
+		int head = 0;
+		int tail = 0;
+		dist[index(targetX, targetY)] = 0;
+		queue[tail++] = index(targetX, targetY);
+		while (head < tail)
+		{
+			int cur = queue[head++];
+			int x = cur / SCENE_SIZE;
+			int y = cur % SCENE_SIZE;
+			int d1 = dist[cur] + 1;
+			for (int d = 0; d < DX.length; d++)
+			{
+				// Reverse search: a neighbour n reaches cur by stepping (-DX, -DY) back towards it.
+				int nx = x + DX[d];
+				int ny = y + DY[d];
+				if (!inScene(nx, ny)) continue;
+				int ni = index(nx, ny);
+				if (dist[ni] != UNREACHABLE) continue;
+				if (!canMove(flags, nx, ny, -DX[d], -DY[d], x == targetX && y == targetY)) continue;
+				dist[ni] = d1;
+				next[ni] = cur;
+				queue[tail++] = ni;
+			}
+		}
+		return new DistanceField(baseX, baseY, plane, targetX, targetY, dist, next);
+	}
+
+	public int getBaseX() { return baseX; }
+	public int getBaseY() { return baseY; }
+	public int getPlane() { return plane; }
+	public int getTargetX() { return targetX; }
+	public int getTargetY() { return targetY; }
+
+	/** Tiles to walk from the scene tile to the target, or {@link #UNREACHABLE}. */
+	public int distanceAt(int sceneX, int sceneY)
+	{
+		if (!inScene(sceneX, sceneY)) return UNREACHABLE;
+		return distances[index(sceneX, sceneY)];
+	}
+
+	/**
+	 * Writes the shortest path from the scene tile towards the target into {@code out} as packed
+	 * {@code x * SCENE_SIZE + y} scene indices (start tile excluded) and returns how many were written,
+	 * up to {@code out.length}.
+	 */
+	public int pathFrom(int sceneX, int sceneY, int[] out)
+	{
+		if (!inScene(sceneX, sceneY)) return 0;
+		int n = 0;
+		for (int cur = nextHops[index(sceneX, sceneY)]; cur != -1 && n < out.length; cur = nextHops[cur])
+			out[n++] = cur;
+		return n;
+	}
+
+	public static int index(int sceneX, int sceneY)
+	{
+		return sceneX * SCENE_SIZE + sceneY;
+	}
+
+	private static boolean inScene(int x, int y)
+	{
+		return x >= 0 && y >= 0 && x < SCENE_SIZE && y < SCENE_SIZE;
+	}
+
+	/**
+	 * Whether a step from (x, y) by (dx, dy) is allowed, using the same destination-tile checks as the game's
+	 * route finder: the destination must not block entry from our side, and a diagonal step also needs both
+	 * orthogonal tiles to be passable. With {@code intoTarget} the destination is the target tile, whose own
+	 * blocking flags are ignored.
+	 */
+	private static boolean canMove(int[][] flags, int x, int y, int dx, int dy, boolean intoTarget)
+	{
+		int full = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int tx = x + dx;
+		int ty = y + dy;
+		if (!inScene(tx, ty)) return false;
+		if ((flags[x][y] & full) != 0) return false;
+		if (!intoTarget && (flags[tx][ty] & (full | entryMask(dx, dy))) != 0) return false;
+		if (dx != 0 && dy != 0)
+		{
+			if ((flags[tx][y] & (full | entryMask(dx, 0))) != 0) return false;
+			if ((flags[x][ty] & (full | entryMask(0, dy))) != 0) return false;
+		}
+		return true;
+	}
+
+	/** Wall bits on the destination tile that block entering it while moving by (dx, dy). */
+	private static int entryMask(int dx, int dy)
+	{
+		int mask = 0;
+		if (dy > 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH;
+		if (dy < 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH;
+		if (dx > 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+		if (dx < 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+		if (dx > 0 && dy > 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+		if (dx > 0 && dy < 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+		if (dx < 0 && dy > 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+		if (dx < 0 && dy < 0) mask |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		return mask;
+	}
+}
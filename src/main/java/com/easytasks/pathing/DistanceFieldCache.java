@@ -0,0 +1,58 @@
+package com.easytasks.pathing;
+
+import com.google.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Holds the distance fields for the last few targets (one per birdhouse patch) so switching the current
+ * patch back and forth never recomputes. Entries are keyed on target tile and scene base, and the whole
+ * cache is dropped when a new region loads. Client thread only.
+ */
+@Singleton
+public class DistanceFieldCache
+{
+	private static final int CAPACITY = 4;
+
+	private final DistanceField[] fields = new DistanceField[CAPACITY];
+	private final long[] lastUsed = new long[CAPACITY];
+	private long clock;
+
+	/** Field for the target in the loaded scene, computing it on a miss; null if the target isn't in the scene. */
+	public DistanceField get(Client client, WorldPoint target)
+	{
+		int baseX = client.getBaseX();
+		int baseY = client.getBaseY();
+		int sceneX = target.getX() - baseX;
+		int sceneY = target.getY() - baseY;
+		if (sceneX < 0 || sceneY < 0 || sceneX >= DistanceField.SCENE_SIZE || sceneY >= DistanceField.SCENE_SIZE)
+			return null;
+		int plane = target.getPlane();
+
+		int oldest = 0;
+		for (int i = 0; i < CAPACITY; i++)
+		{
+			DistanceField f = fields[i];
+			if (f != null && f.getBaseX() == baseX && f.getBaseY() == baseY && f.getPlane() == plane
+				&& f.getTargetX() == sceneX && f.getTargetY() == sceneY)
+			{
+				lastUsed[i] = ++clock;
+				return f;
+			}
+			if (f == null || (fields[oldest] != null && lastUsed[i] < lastUsed[oldest])) oldest = i;
+		}
+
+		CollisionData[] maps = client.getCollisionMaps();
+		if (maps == null || plane >= maps.length || maps[plane] == null) return null;
+		DistanceField f = DistanceField.compute(maps[plane].getFlags(), baseX, baseY, plane, sceneX, sceneY);
+		fields[oldest] = f;
+		lastUsed[oldest] = ++clock;
+		return f;
+	}
+
+	public void clear()
+	{
+		for (int i = 0; i < CAPACITY; i++) fields[i] = null;
+	}
+}
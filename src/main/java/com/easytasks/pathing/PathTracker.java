@@ -0,0 +1,93 @@
+package com.easytasks.pathing;
+
+import com.google.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+
+import javax.inject.Inject;
+
+/**
+ * Per-tick walking guidance towards the current target: remaining tiles and the tile trail to draw.
+ * The trail is only re-walked when the player's tile or the target changes; overlays just read it.
+ * Client thread only.
+ */
+@Singleton
+public class PathTracker
+{
+	/** Trail tiles kept for drawing; longer paths are drawn up to this many tiles ahead. */
+	public static final int MAX_TRAIL = 128;
+
+	private final Client client;
+	private final DistanceFieldCache cache;
+
+	private final int[] trail = new int[MAX_TRAIL];
+	private int trailLength;
+	private int remainingTiles = DistanceField.UNREACHABLE;
+	private DistanceField field;
+	private int lastPlayerX = Integer.MIN_VALUE;
+	private int lastPlayerY = Integer.MIN_VALUE;
+
+	@Inject
+	public PathTracker(Client client, DistanceFieldCache cache)
+	{
+		this.client = client;
+		this.cache = cache;
+	}
+
+	/** Called once per GameTick with the current target (null when there is nothing to walk to). */
+	public void update(WorldPoint target)
+	{
+		Player player = client.getLocalPlayer();
+		if (target == null || player == null)
+		{
+			reset();
+			return;
+		}
+		WorldPoint playerWp = player.getWorldLocation();
+		DistanceField f = playerWp.getPlane() == target.getPlane() ? cache.get(client, target) : null;
+		if (f == null)
+		{
+			reset();
+			return;
+		}
+		int sceneX = playerWp.getX() - f.getBaseX();
+		int sceneY = playerWp.getY() - f.getBaseY();
+		if (f == field && sceneX == lastPlayerX && sceneY == lastPlayerY) return;
+		field = f;
+		lastPlayerX = sceneX;
+		lastPlayerY = sceneY;
+		remainingTiles = f.distanceAt(sceneX, sceneY);
+		trailLength = f.pathFrom(sceneX, sceneY, trail);
+	}
+
+	public void reset()
+	{
+		field = null;
+		trailLength = 0;
+		remainingTiles = DistanceField.UNREACHABLE;
+		lastPlayerX = Integer.MIN_VALUE;
+		lastPlayerY = Integer.MIN_VALUE;
+	}
+
+	/** Region load: scene coordinates and collision flags are about to change. */
+	public void onRegionLoading()
+	{
+		cache.clear();
+		reset();
+	}
+
+	/** Walking distance to the target in tiles, or {@link DistanceField#UNREACHABLE}. */
+	public int getRemainingTiles() { return remainingTiles; }
+
+	public int getTrailLength() { return trailLength; }
+
+	/** Scene index (x * SCENE_SIZE + y) of the i-th trail tile (0 = first step from the player). */
+	public int getTrailTile(int i) { return trail[i]; }
+
+	/** Scene X of the i-th trail tile (0 = first step from the player). */
+	public int getTrailSceneX(int i) { return trail[i] / DistanceField.SCENE_SIZE; }
+
+	/** Scene Y of the i-th trail tile. */
+	public int getTrailSceneY(int i) { return trail[i] % DistanceField.SCENE_SIZE; }
+}
@@ -0,0 +1,129 @@
+package com.easytasks.persistence;
+
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Per-account run state file under the RuneLite directory. Saves are handed to the shared executor and
+ * coalesced: callers only swap the latest bytes in, and a burst of saves before the writer runs becomes
+ * one write. Writes go to a temp file and are renamed over the old one atomically, so a crash leaves
+ * either the previous or the new state, never a torn file. Nothing here touches the disk on the caller's thread.
+ */
+@Slf4j
+@Singleton
+public class RunStateStore
+{
+	private static final File DIR = new File(RuneLite.RUNELITE_DIR, "easy-tasks");
+	/** Pending marker: delete the file instead of writing it. */
+	private static final byte[] DELETE = new byte[0];
+
+	private final ScheduledExecutorService executor;
+	private final AtomicReference<Pending> pending = new AtomicReference<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	@Inject
+	public RunStateStore(ScheduledExecutorService executor)
+	{
+		this.executor = executor;
+	}
+
+	/** Queues the latest state for the account; replaces any save not yet written. */
+	public void save(long accountHash, byte[] data)
+	{
+		submit(new Pending(fileFor(accountHash), data));
+	}
+
+	/** Queues removal of the account's state (run finished or stopped by the user). */
+	public void clear(long accountHash)
+	{
+		submit(new Pending(fileFor(accountHash), DELETE));
+	}
+
+	/** Reads the account's state on the executor and hands it (or null) to the callback there. */
+	public void load(long accountHash, Consumer<byte[]> callback)
+	{
+		Path path = fileFor(accountHash);
+		executor.execute(() -> {
+			flush();
+			byte[] data = null;
+			try
+			{
+				data = Files.readAllBytes(path);
+			}
+			catch (NoSuchFileException ignored) {}
+			catch (IOException e)
+			{
+				log.warn("Failed to read run state {}", path, e);
+			}
+			callback.accept(data);
+		});
+	}
+
+	private void submit(Pending p)
+	{
+		pending.set(p);
+		if (scheduled.compareAndSet(false, true))
+			executor.execute(this::flush);
+	}
+
+	private synchronized void flush()
+	{
+		scheduled.set(false);
+		Pending p = pending.getAndSet(null);
+		if (p == null) return;
+		try
+		{
+			if (p.data == DELETE)
+			{
+				Files.deleteIfExists(p.path);
+				return;
+			}
+			Files.createDirectories(p.path.getParent());
+			Path tmp = p.path.resolveSibling(p.path.getFileName() + ".tmp");
+			Files.write(tmp, p.data);
+			try
+			{
+				Files.move(tmp, p.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(tmp, p.path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to write run state {}", p.path, e);
+		}
+	}
+
+	private static Path fileFor(long accountHash)
+	{
+		return new File(DIR, "run-" + Long.toHexString(accountHash) + ".bin").toPath();
+	}
+
+	private static final class Pending
+	{
+		final Path path;
+		final byte[] data;
+
+		Pending(Path path, byte[] data)
+		{
+			this.path = path;
+			this.data = data;
+		}
+	}
+}
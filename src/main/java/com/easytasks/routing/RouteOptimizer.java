@@ -0,0 +1,140 @@
+package com.easytasks.routing;
+
+import java.util.Arrays;
+
+/**
+ * Shortest open visiting order over a cost matrix where node 0 is the start and nodes 1..n are the stops
+ * (see {@link TravelCostMatrix#withStart}). Exact Held-Karp DP up to {@link #EXACT_LIMIT} stops; nearest
+ * neighbour plus 2-opt above that. Costs are assumed symmetric, as travel costs are.
+ */
+public final class RouteOptimizer
+{
+	/** Held-Karp is O(2^n n^2) time and O(2^n n) memory; 16 stops is about 1M DP cells. */
+	public static final int EXACT_LIMIT = 16;
+
+	private static final int INF = Integer.MAX_VALUE / 2;
+
+	private RouteOptimizer() {}
+
+	/** Visiting order as stop indices (0-based, i.e. matrix node - 1). */
+	public static int[] solve(int[][] cost)
+	{
+		int n = cost.length - 1;
+		if (n <= 0) return new int[0];
+		return n <= EXACT_LIMIT ? heldKarp(cost, n) : nearestNeighbourTwoOpt(cost, n);
+	}
+
+	/** Total cost of visiting the stops in order from node 0. */
+	public static int routeCost(int[][] cost, int[] order)
+	{
+		int total = 0;
+		int prev = 0;
+		for (int stop : order)
+		{
+			total += cost[prev][stop + 1];
+			prev = stop + 1;
+		}
+		return total;
+	}
+
+	static int[] heldKarp(int[][] cost, int n)
+	{
+		int full = (1 << n) - 1;
+		// dp[mask * n + j]: cheapest path from the start through exactly the stops in mask, ending at stop j.
+		int[] dp = new int[(full + 1) * n];
+		byte[] parent = new byte[(full + 1) * n];
+		Arrays.fill(dp, INF);
+		for (int j = 0; j < n; j++)
+		{
+			dp[(1 << j) * n + j] = cost[0][j + 1];
+			parent[(1 << j) * n + j] = -1;
+		}
+		for (int mask = 1; mask <= full; mask++)
+		{
+			for (int j = 0; j < n; j++)
+			{
+				if ((mask & (1 << j)) == 0) continue;
+				int cur = dp[mask * n + j];
+				if (cur >= INF) continue;
+				int[] row = cost[j + 1];
+				for (int k = 0; k < n; k++)
+				{
+					if ((mask & (1 << k)) != 0) continue;
+					int next = mask | (1 << k);
+					int c = cur + row[k + 1];
+					if (c < dp[next * n + k])
+					{
+						dp[next * n + k] = c;
+						parent[next * n + k] = (byte) j;
+					}
+				}
+			}
+		}
+		int end = 0;
+		for (int j = 1; j < n; j++)
+			if (dp[full * n + j] < dp[full * n + end]) end = j;
+
+		int[] order = new int[n];
+		int mask = full;
+		for (int i = n - 1, j = end; i >= 0; i--)
+		{
+			order[i] = j;
+			int p = parent[mask * n + j];
+			mask &= ~(1 << j);
+			j = p;
+		}
+		return order;
+	}
+
+	static int[] nearestNeighbourTwoOpt(int[][] cost, int n)
+	{
+		int[] order = new int[n];
+		boolean[] used = new boolean[n];
+		int prev = 0;
+		for (int i = 0; i < n; i++)
+		{
+			int best = -1;
+			for (int k = 0; k < n; k++)
+				if (!used[k] && (best < 0 || cost[prev][k + 1] < cost[prev][best + 1])) best = k;
+			order[i] = best;
+			used[best] = true;
+			prev = best + 1;
+		}
+
+		// 2-opt on the open path: reverse order[i..j] while that shortens it.
+		boolean improved = true;
+		while (improved)
+		{
+			improved = false;
+			for (int i = 0; i < n - 1; i++)
+			{
+				int a = i == 0 ? 0 : order[i - 1] + 1;
+				int b = order[i] + 1;
+				for (int j = i + 1; j < n; j++)
+				{
+					int c = order[j] + 1;
+					int d = j == n - 1 ? -1 : order[j + 1] + 1;
+					int before = cost[a][b] + (d < 0 ? 0 : cost[c][d]);
+					int after = cost[a][c] + (d < 0 ? 0 : cost[b][d]);
+					if (after < before)
+					{
+						reverse(order, i, j);
+						b = order[i] + 1;
+						improved = true;
+					}
+				}
+			}
+		}
+		return order;
+	}
+
+	private static void reverse(int[] a, int i, int j)
+	{
+		for (; i < j; i++, j--)
+		{
+			int t = a[i];
+			a[i] = a[j];
+			a[j] = t;
+		}
+	}
+}
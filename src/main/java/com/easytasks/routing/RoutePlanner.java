@@ -0,0 +1,56 @@
+package com.easytasks.routing;
+
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.google.inject.Singleton;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.config.ConfigManager;
+
+import javax.inject.Inject;
+
+/**
+ * Plans the birdhouse route order from the player's position. The patch-to-patch travel cost matrix is
+ * kept in config, so it is only rebuilt when the patch or mushtree tiles change. It has its own group:
+ * a write to the plugin's settings group would re-apply settings to the task while the plan is made.
+ * Costs are estimates (see {@link TravelCostMatrix}), so the plan is a suggested order, not a proven
+ * shortest route.
+ */
+@Singleton
+public class RoutePlanner
+{
+	private static final String CONFIG_GROUP = "easytasksrouting";
+	private static final String MATRIX_KEY = "travelCostMatrix";
+	/** Where the matrix was cached before it had its own group; cleared on first use. */
+	private static final String LEGACY_CONFIG_GROUP = "birdhouse";
+
+	private final ConfigManager configManager;
+	private TravelCostMatrix matrix;
+
+	@Inject
+	public RoutePlanner(ConfigManager configManager)
+	{
+		this.configManager = configManager;
+	}
+
+	/** Best visiting order of the four patches (location indices, as for setRouteOrder) starting from {@code start}. */
+	public int[] planFrom(WorldPoint start)
+	{
+		return RouteOptimizer.solve(getMatrix().withStart(start));
+	}
+
+	public TravelCostMatrix getMatrix()
+	{
+		if (matrix == null)
+		{
+			String saved = configManager.getConfiguration(CONFIG_GROUP, MATRIX_KEY);
+			matrix = TravelCostMatrix.parse(saved, BirdhouseData.PATCH_POINTS, BirdhouseData.MUSHROOM_TREE_POINTS);
+			if (matrix == null)
+			{
+				matrix = TravelCostMatrix.build(BirdhouseData.PATCH_POINTS, BirdhouseData.MUSHROOM_TREE_POINTS);
+				configManager.setConfiguration(CONFIG_GROUP, MATRIX_KEY, matrix.serialize());
+				if (configManager.getConfiguration(LEGACY_CONFIG_GROUP, MATRIX_KEY) != null)
+					configManager.unsetConfiguration(LEGACY_CONFIG_GROUP, MATRIX_KEY);
+			}
+		}
+		return matrix;
+	}
+}
@@ -0,0 +1,136 @@
+package com.easytasks.routing;
+
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.List;
+
+/**
+ * Estimated pairwise travel cost, in game ticks, between a fixed set of stops, where every leg may walk
+ * directly or walk to a teleport node, teleport to any other node and walk from there (the Magic Mushtree
+ * network). Walking legs are a rough estimate from coordinates alone (straight-line tile distance at
+ * running speed); they ignore water, cliffs and collision, so a leg can be priced as walkable when it is
+ * not. Collision-aware distances (DistanceField) only cover the loaded scene, which never holds all four
+ * patches, so they cannot fill this matrix. Good enough to rank the four patches; not a true travel cost.
+ * Immutable; serialises to a compact string so it can be kept in config between sessions.
+ */
+public final class TravelCostMatrix
+{
+	/** Ticks for a mushtree teleport: interface, animation and arrival. */
+	static final int TELEPORT_TICKS = 6;
+	/** Running covers two tiles per tick. */
+	private static final int TILES_PER_TICK = 2;
+	private static final String FORMAT_VERSION = "1";
+
+	private final List<WorldPoint> stops;
+	private final List<WorldPoint> teleports;
+	private final int fingerprint;
+	private final int[][] costs;
+
+	private TravelCostMatrix(List<WorldPoint> stops, List<WorldPoint> teleports, int fingerprint, int[][] costs)
+	{
+		this.stops = stops;
+		this.teleports = teleports;
+		this.fingerprint = fingerprint;
+		this.costs = costs;
+	}
+
+	public static TravelCostMatrix build(List<WorldPoint> stops, List<WorldPoint> teleports)
+	{
+		int n = stops.size();
+		int[][] costs = new int[n][n];
+		for (int i = 0; i < n; i++)
+			for (int j = 0; j < n; j++)
+				costs[i][j] = i == j ? 0 : travelCost(stops.get(i), stops.get(j), teleports);
+		return new TravelCostMatrix(stops, teleports, fingerprint(stops, teleports), costs);
+	}
+
+	/**
+	 * Parses {@link #serialize()} output; returns null if the text is missing, malformed, or was built from
+	 * different stops/teleports (so the caller rebuilds).
+	 */
+	public static TravelCostMatrix parse(String text, List<WorldPoint> stops, List<WorldPoint> teleports)
+	{
+		if (text == null || text.isBlank()) return null;
+		String[] parts = text.split(";");
+		if (parts.length != 3 || !FORMAT_VERSION.equals(parts[0])) return null;
+		int n = stops.size();
+		try
+		{
+			int fp = Integer.parseInt(parts[1]);
+			if (fp != fingerprint(stops, teleports)) return null;
+			String[] values = parts[2].split(",");
+			if (values.length != n * n) return null;
+			int[][] costs = new int[n][n];
+			for (int i = 0; i < values.length; i++)
+				costs[i / n][i % n] = Integer.parseInt(values[i]);
+			return new TravelCostMatrix(stops, teleports, fp, costs);
+		}
+		catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+
+	/** "version;fingerprint;row-major costs". */
+	public String serialize()
+	{
+		StringBuilder sb = new StringBuilder(FORMAT_VERSION).append(';').append(fingerprint).append(';');
+		for (int i = 0; i < costs.length; i++)
+			for (int j = 0; j < costs.length; j++)
+			{
+				if (i > 0 || j > 0) sb.append(',');
+				sb.append(costs[i][j]);
+			}
+		return sb.toString();
+	}
+
+	public int size() { return costs.length; }
+
+	public int cost(int from, int to) { return costs[from][to]; }
+
+	/**
+	 * Cost matrix for a run starting at {@code start}: node 0 is the start, node i + 1 is stop i. Only the
+	 * start row is computed; the rest is copied from the cached matrix.
+	 */
+	public int[][] withStart(WorldPoint start)
+	{
+		int n = costs.length;
+		int[][] m = new int[n + 1][n + 1];
+		for (int j = 0; j < n; j++)
+		{
+			m[0][j + 1] = travelCost(start, stops.get(j), teleports);
+			m[j + 1][0] = m[0][j + 1];
+			System.arraycopy(costs[j], 0, m[j + 1], 1, n);
+		}
+		return m;
+	}
+
+	static int travelCost(WorldPoint from, WorldPoint to, List<WorldPoint> teleports)
+	{
+		int best = walkTicks(from, to);
+		// Any tree reaches any other, so the best teleport leg is nearest tree to each end.
+		int toTree = Integer.MAX_VALUE;
+		int fromTree = Integer.MAX_VALUE;
+		for (WorldPoint t : teleports)
+		{
+			toTree = Math.min(toTree, walkTicks(from, t));
+			fromTree = Math.min(fromTree, walkTicks(t, to));
+		}
+		if (!teleports.isEmpty())
+			best = Math.min(best, toTree + TELEPORT_TICKS + fromTree);
+		return best;
+	}
+
+	/** Straight-line (Chebyshev) tile distance at running speed; no collision, so a lower bound at best. */
+	private static int walkTicks(WorldPoint a, WorldPoint b)
+	{
+		if (a.getPlane() != b.getPlane()) return Integer.MAX_VALUE / 4;
+		int tiles = Math.max(Math.abs(a.getX() - b.getX()), Math.abs(a.getY() - b.getY()));
+		return (tiles + TILES_PER_TICK - 1) / TILES_PER_TICK;
+	}
+
+	private static int fingerprint(List<WorldPoint> stops, List<WorldPoint> teleports)
+	{
+		return 31 * (31 * stops.hashCode() + teleports.hashCode()) + TELEPORT_TICKS;
+	}
+}
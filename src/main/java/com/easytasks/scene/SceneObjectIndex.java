@@ -0,0 +1,104 @@
+package com.easytasks.scene;
+
+import com.google.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of live scene objects by object ID, kept current from GameObjectSpawned/GameObjectDespawned.
+ * Only IDs registered via {@link #track(int)} are indexed, so overlays can look up a handful of
+ * objects directly instead of scanning every tile of the scene each frame. Only a handful of IDs are
+ * tracked, so they are kept in a flat int array with a parallel list per ID: lookups are a short scan
+ * with no boxing, which matters because every spawn in the game and every overlay frame goes through
+ * here. Client thread only.
+ */
+@Singleton
+public class SceneObjectIndex
+{
+	private int[] trackedIds = new int[0];
+	private final List<List<TileObject>> objectsBySlot = new ArrayList<>();
+
+	/** Adds an object ID to the index; objects already in the scene are picked up on the next {@link #rebuild}. */
+	public void track(int objectId)
+	{
+		if (slotOf(objectId) >= 0) return;
+		trackedIds = Arrays.copyOf(trackedIds, trackedIds.length + 1);
+		trackedIds[trackedIds.length - 1] = objectId;
+		objectsBySlot.add(new ArrayList<>(2));
+	}
+
+	public boolean isTracked(int objectId)
+	{
+		return slotOf(objectId) >= 0;
+	}
+
+	/** Live objects with this ID in the loaded scene (all planes); empty if none or not tracked. */
+	public List<TileObject> getObjects(int objectId)
+	{
+		int slot = slotOf(objectId);
+		return slot < 0 ? Collections.emptyList() : objectsBySlot.get(slot);
+	}
+
+	public void onObjectSpawned(TileObject obj)
+	{
+		if (obj == null) return;
+		int slot = slotOf(obj.getId());
+		if (slot < 0) return;
+		List<TileObject> objs = objectsBySlot.get(slot);
+		// Multi-tile objects appear on every tile they cover during a rebuild scan.
+		if (!objs.contains(obj)) objs.add(obj);
+	}
+
+	public void onObjectDespawned(TileObject obj)
+	{
+		if (obj == null) return;
+		int slot = slotOf(obj.getId());
+		if (slot >= 0) objectsBySlot.get(slot).remove(obj);
+	}
+
+	/** Drops all entries; called when a new region starts loading (spawn events repopulate it). */
+	public void clear()
+	{
+		for (int i = 0; i < objectsBySlot.size(); i++)
+			objectsBySlot.get(i).clear();
+	}
+
+	private int slotOf(int objectId)
+	{
+		for (int i = 0; i < trackedIds.length; i++)
+			if (trackedIds[i] == objectId) return i;
+		return -1;
+	}
+
+	/**
+	 * One-off full scan of the loaded scene, used when the plugin starts while already logged in
+	 * (no spawn events will fire for objects that are already there).
+	 */
+	public void rebuild(Client client)
+	{
+		clear();
+		Scene scene = client.getScene();
+		if (scene == null) return;
+		Tile[][][] tiles = scene.getTiles();
+		for (Tile[][] plane : tiles)
+		{
+			for (Tile[] column : plane)
+			{
+				for (Tile tile : column)
+				{
+					if (tile == null) continue;
+					for (GameObject obj : tile.getGameObjects())
+						onObjectSpawned(obj);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.easytasks.scheduling;
+
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+
+import javax.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Wall-clock timers for timed activities (birdhouses catching birds, and anything else keyed by a string).
+ * Timers live in a {@link TimerWheel}; instead of checking every game tick, one executor wakeup is armed
+ * for the earliest deadline, so the cost while waiting is zero however many timers are pending. Timers
+ * are saved to config on every change and reloaded on start, so they survive restarts; ones that came
+ * due while the client was closed fire on the next start. They are kept in their own config group:
+ * changes to the plugin's settings group re-apply settings to the running task, which a timer save
+ * (made mid-transition, or from the executor thread) must not trigger.
+ */
+@Slf4j
+@Singleton
+public class ActivityScheduler
+{
+	private static final String CONFIG_GROUP = "easytaskstimers";
+	private static final String TIMERS_KEY = "activityTimers";
+	/** Where timers were saved before they had their own group; read once and cleared. */
+	private static final String LEGACY_CONFIG_GROUP = "birdhouse";
+	/** 10 s slots, 512 per revolution: about 85 minutes on the wheel, longer timers wait in the overflow queue. */
+	private static final long TICK_MS = 10_000;
+	private static final int SLOTS = 512;
+
+	/** A pending activity: stable key (rescheduling replaces) and the message shown when it is due. */
+	public static final class Activity
+	{
+		private final String key;
+		private final String message;
+		private final long dueMs;
+
+		Activity(String key, String message, long dueMs)
+		{
+			this.key = key;
+			this.message = message;
+			this.dueMs = dueMs;
+		}
+
+		public String getKey() { return key; }
+		public String getMessage() { return message; }
+		public long getDueMs() { return dueMs; }
+	}
+
+	private final ScheduledExecutorService executor;
+	private final ConfigManager configManager;
+	private final Map<String, TimerWheel.Timer<Activity>> byKey = new HashMap<>();
+	private TimerWheel<Activity> wheel;
+	private ScheduledFuture<?> wakeup;
+	private long wakeupAt = Long.MAX_VALUE;
+	private Consumer<Activity> onDue;
+
+	@Inject
+	public ActivityScheduler(ScheduledExecutorService executor, ConfigManager configManager)
+	{
+		this.executor = executor;
+		this.configManager = configManager;
+	}
+
+	/** Loads saved timers and arms the first wakeup. {@code onDue} runs on the executor thread. */
+	public synchronized void start(Consumer<Activity> onDue)
+	{
+		this.onDue = onDue;
+		long now = System.currentTimeMillis();
+		wheel = new TimerWheel<>(TICK_MS, SLOTS, now);
+		byKey.clear();
+		load(configManager.getConfiguration(CONFIG_GROUP, TIMERS_KEY));
+		String legacy = configManager.getConfiguration(LEGACY_CONFIG_GROUP, TIMERS_KEY);
+		if (legacy != null)
+		{
+			if (byKey.isEmpty()) load(legacy);
+			configManager.unsetConfiguration(LEGACY_CONFIG_GROUP, TIMERS_KEY);
+			save();
+		}
+		rearm(now);
+	}
+
+	public synchronized void stop()
+	{
+		if (wakeup != null) wakeup.cancel(false);
+		wakeup = null;
+		wakeupAt = Long.MAX_VALUE;
+		onDue = null;
+	}
+
+	/** Schedules (or reschedules) the activity with this key. */
+	public synchronized void schedule(String key, String message, long dueMs)
+	{
+		if (wheel == null) return;
+		put(new Activity(key, message, dueMs));
+		save();
+		rearm(System.currentTimeMillis());
+	}
+
+	public synchronized void cancel(String key)
+	{
+		TimerWheel.Timer<Activity> t = byKey.remove(key);
+		if (t == null) return;
+		t.cancel();
+		save();
+	}
+
+	/** Due time for the key, or -1 if nothing is scheduled under it. */
+	public synchronized long getDueMs(String key)
+	{
+		TimerWheel.Timer<Activity> t = byKey.get(key);
+		return t == null ? -1 : t.getDeadlineMs();
+	}
+
+	private void put(Activity activity)
+	{
+		TimerWheel.Timer<Activity> old = byKey.remove(activity.key);
+		if (old != null) old.cancel();
+		byKey.put(activity.key, wheel.schedule(activity.dueMs, activity));
+	}
+
+	private synchronized void fire()
+	{
+		wakeup = null;
+		wakeupAt = Long.MAX_VALUE;
+		if (wheel == null || onDue == null) return;
+		long now = System.currentTimeMillis();
+		int before = wheel.size();
+		wheel.advanceTo(now, activity -> {
+			byKey.remove(activity.key);
+			try { onDue.accept(activity); }
+			catch (Exception e) { log.warn("Activity callback error", e); }
+		});
+		if (wheel.size() != before) save();
+		rearm(now);
+	}
+
+	/** Keeps exactly one wakeup armed, at the earliest deadline. */
+	private void rearm(long now)
+	{
+		if (onDue == null) return;
+		long next = wheel.nextDeadline();
+		if (next == wakeupAt) return;
+		if (wakeup != null) wakeup.cancel(false);
+		wakeup = null;
+		wakeupAt = next;
+		if (next == Long.MAX_VALUE) return;
+		wakeup = executor.schedule(this::fire, Math.max(0, next - now), TimeUnit.MILLISECONDS);
+	}
+
+	/** One activity per line: "dueMs \t key \t message". */
+	private void save()
+	{
+		StringBuilder sb = new StringBuilder();
+		for (TimerWheel.Timer<Activity> t : byKey.values())
+		{
+			Activity a = t.getPayload();
+			if (sb.length() > 0) sb.append('\n');
+			sb.append(a.dueMs).append('\t').append(a.key).append('\t').append(a.message);
+		}
+		configManager.setConfiguration(CONFIG_GROUP, TIMERS_KEY, sb.toString());
+	}
+
+	private void load(String text)
+	{
+		if (text == null || text.isBlank()) return;
+		for (String line : text.split("\n"))
+		{
+			String[] parts = line.split("\t", 3);
+			if (parts.length != 3) continue;
+			try
+			{
+				put(new Activity(parts[1], parts[2], Long.parseLong(parts[0])));
+			}
+			catch (NumberFormatException ignored) {}
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package com.easytasks.scheduling;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel for wall-clock deadlines. Timers within one revolution ({@code slotCount * tickMs})
+ * sit in a per-slot linked list, so scheduling and cancelling are O(1) and advancing costs one slot per
+ * elapsed tick, independent of how many timers are pending. Longer horizons wait in a priority queue and
+ * move onto the wheel once they come within range. Not thread-safe.
+ */
+public final class TimerWheel<T>
+{
+	private static final int OVERFLOW = -1;
+	private static final int DETACHED = -2;
+
+	private final long tickMs;
+	private final int mask;
+	private final Timer<T>[] slots;
+	private final PriorityQueue<Timer<T>> overflow = new PriorityQueue<>(Comparator.comparingLong((Timer<T> t) -> t.deadlineMs));
+	/** Absolute tick index (ms / tickMs) of the slot the wheel is at. */
+	private long currentTick;
+	private int size;
+
+	/** @param slotCount power of two */
+	@SuppressWarnings("unchecked")
+	public TimerWheel(long tickMs, int slotCount, long nowMs)
+	{
+		if (Integer.bitCount(slotCount) != 1) throw new IllegalArgumentException("slotCount must be a power of two");
+		this.tickMs = tickMs;
+		this.mask = slotCount - 1;
+		this.slots = (Timer<T>[]) new Timer[slotCount];
+		this.currentTick = nowMs / tickMs;
+	}
+
+	/** Handle for a scheduled payload; {@link #cancel()} removes it if it has not fired yet. */
+	public static final class Timer<T>
+	{
+		private final TimerWheel<T> wheel;
+		private final long deadlineMs;
+		private final T payload;
+		private Timer<T> prev;
+		private Timer<T> next;
+		private int slot = DETACHED;
+
+		private Timer(TimerWheel<T> wheel, long deadlineMs, T payload)
+		{
+			this.wheel = wheel;
+			this.deadlineMs = deadlineMs;
+			this.payload = payload;
+		}
+
+		public long getDeadlineMs() { return deadlineMs; }
+		public T getPayload() { return payload; }
+		public boolean isPending() { return slot != DETACHED; }
+
+		public void cancel()
+		{
+			if (slot == DETACHED) return;
+			if (slot == OVERFLOW) wheel.overflow.remove(this);
+			else wheel.unlink(this);
+			slot = DETACHED;
+			wheel.size--;
+		}
+	}
+
+	public Timer<T> schedule(long deadlineMs, T payload)
+	{
+		Timer<T> timer = new Timer<>(this, deadlineMs, payload);
+		place(timer);
+		size++;
+		return timer;
+	}
+
+	/**
+	 * Moves the wheel to {@code nowMs}, handing every payload whose deadline has passed to {@code expired}.
+	 * Work is one slot per elapsed tick (at most one revolution) plus the expired timers.
+	 */
+	public void advanceTo(long nowMs, Consumer<? super T> expired)
+	{
+		long target = nowMs / tickMs;
+		if (target < currentTick) return;
+		// Whole slots strictly before the target tick have fully expired; after a full revolution that is all of them.
+		long whole = Math.min(target - currentTick, mask + 1L);
+		for (long i = 0; i < whole; i++)
+			expireSlot((int) ((currentTick + i) & mask), Long.MAX_VALUE, expired);
+		currentTick = target;
+		expireSlot((int) (target & mask), nowMs, expired);
+
+		while (!overflow.isEmpty() && overflow.peek().deadlineMs / tickMs - currentTick <= mask)
+		{
+			Timer<T> t = overflow.poll();
+			if (t.deadlineMs <= nowMs)
+			{
+				t.slot = DETACHED;
+				size--;
+				expired.accept(t.payload);
+			}
+			else
+				place(t);
+		}
+	}
+
+	/** Earliest pending deadline, or Long.MAX_VALUE when empty. Scans at most one revolution of slots. */
+	public long nextDeadline()
+	{
+		if (size == 0) return Long.MAX_VALUE;
+		for (int i = 0; i <= mask; i++)
+		{
+			Timer<T> head = slots[(int) ((currentTick + i) & mask)];
+			if (head == null) continue;
+			long min = Long.MAX_VALUE;
+			for (Timer<T> t = head; t != null; t = t.next)
+				min = Math.min(min, t.deadlineMs);
+			return min;
+		}
+		return overflow.isEmpty() ? Long.MAX_VALUE : overflow.peek().deadlineMs;
+	}
+
+	public int size() { return size; }
+
+	private void place(Timer<T> t)
+	{
+		long tick = Math.max(t.deadlineMs / tickMs, currentTick);
+		if (tick - currentTick > mask)
+		{
+			t.slot = OVERFLOW;
+			overflow.add(t);
+			return;
+		}
+		int slot = (int) (tick & mask);
+		t.slot = slot;
+		t.prev = null;
+		t.next = slots[slot];
+		if (t.next != null) t.next.prev = t;
+		slots[slot] = t;
+	}
+
+	private void unlink(Timer<T> t)
+	{
+		if (t.prev != null) t.prev.next = t.next;
+		else slots[t.slot] = t.next;
+		if (t.next != null) t.next.prev = t.prev;
+		t.prev = null;
+		t.next = null;
+	}
+
+	private void expireSlot(int slot, long nowMs, Consumer<? super T> expired)
+	{
+		Timer<T> t = slots[slot];
+		while (t != null)
+		{
+			Timer<T> next = t.next;
+			if (t.deadlineMs <= nowMs)
+			{
+				unlink(t);
+				t.slot = DETACHED;
+				size--;
+				expired.accept(t.payload);
+			}
+			t = next;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.easytasks.tasks;
+
+import com.google.inject.Singleton;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+
+import java.util.Arrays;
+
+/**
+ * Item ID to total quantity for the player's inventory, rebuilt in a single pass on each
+ * inventory ItemContainerChanged. Infoboxes and tasks read counts from here instead of
+ * rescanning the container themselves. Client thread only.
+ */
+@Singleton
+public class InventoryHistogram
+{
+	/** Power of two comfortably above the 28 inventory slots, so linear probing stays short. */
+	private static final int MIN_CAPACITY = 64;
+	private static final int EMPTY = -1;
+
+	/**
+	 * Open-addressed table, grown to a power of two at least twice the container's slot count, so it is
+	 * never more than half full and every probe sequence reaches an empty slot.
+	 */
+	private int[] keys = new int[MIN_CAPACITY];
+	private int[] counts = new int[MIN_CAPACITY];
+	/** Right shift taking a 32-bit hash to a table index. */
+	private int hashShift = 32 - Integer.numberOfTrailingZeros(MIN_CAPACITY);
+
+	public InventoryHistogram()
+	{
+		Arrays.fill(keys, EMPTY);
+	}
+
+	/** Replaces the histogram with the contents of the container (empty if null). */
+	public void update(ItemContainer container)
+	{
+		if (container == null)
+		{
+			Arrays.fill(keys, EMPTY);
+			return;
+		}
+		Item[] items = container.getItems();
+		ensureCapacity(items.length);
+		Arrays.fill(keys, EMPTY);
+		for (Item item : items)
+		{
+			int id = item.getId();
+			if (id < 0 || item.getQuantity() <= 0) continue;
+			int slot = slotFor(id);
+			if (keys[slot] == EMPTY)
+			{
+				keys[slot] = id;
+				counts[slot] = 0;
+			}
+			counts[slot] += item.getQuantity();
+		}
+	}
+
+	/** Total quantity of this item in the inventory. */
+	public int count(int itemId)
+	{
+		int slot = slotFor(itemId);
+		return keys[slot] == itemId ? counts[slot] : 0;
+	}
+
+	/** Total quantity of every item that satisfies the requirement (e.g. any birdhouse). */
+	public int count(Task.RequiredItem requirement)
+	{
+		int total = 0;
+		for (int slot = 0; slot < keys.length; slot++)
+			if (keys[slot] != EMPTY && requirement.matches(keys[slot])) total += counts[slot];
+		return total;
+	}
+
+	/** Grows the table for a container of this many slots (bank, trade screens); never shrinks. */
+	private void ensureCapacity(int slots)
+	{
+		int capacity = keys.length;
+		while (capacity < slots * 2) capacity <<= 1;
+		if (capacity == keys.length) return;
+		keys = new int[capacity];
+		counts = new int[capacity];
+		hashShift = 32 - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private int slotFor(int itemId)
+	{
+		int mask = keys.length - 1;
+		int slot = (itemId * 0x9E3779B9) >>> hashShift;
+		while (keys[slot] != EMPTY && keys[slot] != itemId)
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+}
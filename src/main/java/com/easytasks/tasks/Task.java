@@ -27,11 +27,31 @@ public interface Task
 	String getDescription();
 	BufferedImage getIcon();
 
+	/** Events TaskManager should route to this task. Re-read on register and on {@link TaskManager#refreshInterests}. */
+	default TaskInterests getInterests() { return TaskInterests.NONE; }
+
+	/** Map region ids the task takes place in; its overlays and per-tick work sleep elsewhere. Null = anywhere. */
+	default int[] getRegionIds() { return null; }
+
+	default void onGameTick() {}
+	default void onVarChanged(int varpId, int varbitId) {}
+	default void onItemContainerChanged(int containerId) {}
+	default void onMenuOptionClicked(String option, int objectId, int param0, int param1) {}
+
 	interface RequiredItem
 	{
 		int getItemId();
 		int getQuantity();
 		/** IDs that satisfy this requirement (e.g. any birdhouse). Default: single getItemId(). */
 		default List<Integer> getItemIds() { return Collections.singletonList(getItemId()); }
+
+		/** True if the item satisfies this requirement. Implementations should override with a primitive lookup. */
+		default boolean matches(int itemId)
+		{
+			List<Integer> ids = getItemIds();
+			for (int i = 0; i < ids.size(); i++)
+				if (ids.get(i) == itemId) return true;
+			return false;
+		}
 	}
 }
@@ -0,0 +1,49 @@
+package com.easytasks.tasks;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable int-keyed lookup from an event ID (varp, varbit, container, object) to the tasks interested
+ * in it. Open addressing over primitive keys, so a lookup never boxes; a miss usually costs one probe.
+ */
+final class TaskDispatchTable
+{
+	static final Task[] NO_TASKS = new Task[0];
+	static final TaskDispatchTable EMPTY = new TaskDispatchTable(Map.of());
+
+	private final int[] keys;
+	private final Task[][] values;
+	private final int mask;
+	private final int shift;
+
+	TaskDispatchTable(Map<Integer, List<Task>> tasksById)
+	{
+		int capacity = Integer.highestOneBit(Math.max(4, tasksById.size() * 4 - 1)) << 1;
+		keys = new int[capacity];
+		values = new Task[capacity][];
+		mask = capacity - 1;
+		shift = Integer.numberOfLeadingZeros(mask);
+		for (Map.Entry<Integer, List<Task>> e : tasksById.entrySet())
+		{
+			int slot = slotFor(e.getKey());
+			keys[slot] = e.getKey();
+			values[slot] = e.getValue().toArray(NO_TASKS);
+		}
+	}
+
+	/** Tasks interested in this ID; a shared empty array on a miss. Do not modify the returned array. */
+	Task[] get(int id)
+	{
+		Task[] tasks = values[slotFor(id)];
+		return tasks == null ? NO_TASKS : tasks;
+	}
+
+	private int slotFor(int id)
+	{
+		int slot = (id * 0x9E3779B9) >>> shift;
+		while (values[slot] != null && keys[slot] != id)
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+}
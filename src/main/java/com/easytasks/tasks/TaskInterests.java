@@ -0,0 +1,79 @@
+package com.easytasks.tasks;
+
+import java.util.Arrays;
+
+/**
+ * The events a {@link Task} wants routed to it by {@link TaskManager}: game ticks, specific varps/varbits,
+ * item containers, and menu clicks on specific object IDs or with specific options. Anything not declared
+ * here never reaches the task. Immutable; build with {@link #builder()}.
+ */
+public final class TaskInterests
+{
+	public static final TaskInterests NONE = builder().build();
+
+	private final boolean gameTick;
+	private final boolean allVars;
+	private final int[] varpIds;
+	private final int[] varbitIds;
+	private final int[] containerIds;
+	private final int[] objectIds;
+	private final String[] menuOptions;
+
+	private TaskInterests(Builder b)
+	{
+		this.gameTick = b.gameTick;
+		this.allVars = b.allVars;
+		this.varpIds = b.varpIds.clone();
+		this.varbitIds = b.varbitIds.clone();
+		this.containerIds = b.containerIds.clone();
+		this.objectIds = b.objectIds.clone();
+		this.menuOptions = b.menuOptions.clone();
+	}
+
+	public boolean isGameTick() { return gameTick; }
+	/** True while the task can't name its vars yet (e.g. before object definitions load); it then sees every change. */
+	public boolean isAllVars() { return allVars; }
+	public int[] getVarpIds() { return varpIds.clone(); }
+	public int[] getVarbitIds() { return varbitIds.clone(); }
+	public int[] getContainerIds() { return containerIds.clone(); }
+	public int[] getObjectIds() { return objectIds.clone(); }
+	public String[] getMenuOptions() { return menuOptions.clone(); }
+
+	public static Builder builder() { return new Builder(); }
+
+	public static final class Builder
+	{
+		private boolean gameTick;
+		private boolean allVars;
+		private int[] varpIds = new int[0];
+		private int[] varbitIds = new int[0];
+		private int[] containerIds = new int[0];
+		private int[] objectIds = new int[0];
+		private String[] menuOptions = new String[0];
+
+		private Builder() {}
+
+		public Builder gameTick() { gameTick = true; return this; }
+		public Builder allVars() { allVars = true; return this; }
+		public Builder varp(int varpId) { varpIds = append(varpIds, varpId); return this; }
+		public Builder varbit(int varbitId) { varbitIds = append(varbitIds, varbitId); return this; }
+		public Builder container(int containerId) { containerIds = append(containerIds, containerId); return this; }
+		public Builder objectId(int objectId) { objectIds = append(objectIds, objectId); return this; }
+
+		public Builder menuOption(String option)
+		{
+			menuOptions = Arrays.copyOf(menuOptions, menuOptions.length + 1);
+			menuOptions[menuOptions.length - 1] = option;
+			return this;
+		}
+
+		public TaskInterests build() { return new TaskInterests(this); }
+
+		private static int[] append(int[] ids, int id)
+		{
+			int[] out = Arrays.copyOf(ids, ids.length + 1);
+			out[ids.length] = id;
+			return out;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.easytasks.tasks;
 
+import com.easytasks.geometry.PackedPoint;
 import net.runelite.api.coords.WorldPoint;
 
 import java.util.List;
@@ -8,6 +9,7 @@ public class TaskLocation
 {
 	private final String name;
 	private final WorldPoint worldPoint;
+	private final int packedPoint;
 	private final List<Integer> objectIds;
 	private final List<Integer> teleportObjectIds;
 	private boolean visited;
@@ -17,12 +19,15 @@ public class TaskLocation
 	{
 		this.name = name;
 		this.worldPoint = worldPoint;
+		this.packedPoint = worldPoint != null ? PackedPoint.pack(worldPoint) : PackedPoint.UNKNOWN;
 		this.objectIds = objectIds != null ? List.copyOf(objectIds) : List.of();
 		this.teleportObjectIds = teleportObjectIds != null ? List.copyOf(teleportObjectIds) : List.of();
 	}
 
 	public String getName() { return name; }
 	public WorldPoint getWorldPoint() { return worldPoint; }
+	/** {@link #getWorldPoint()} as a {@link PackedPoint}, for per-tick and per-frame comparisons. */
+	public int getPackedPoint() { return packedPoint; }
 	public List<Integer> getObjectIds() { return objectIds; }
 	public List<Integer> getTeleportObjectIds() { return teleportObjectIds; }
 	public boolean isVisited() { return visited; }
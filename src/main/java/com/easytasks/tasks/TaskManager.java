@@ -6,7 +6,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -16,6 +19,13 @@ public class TaskManager
 	private static final Logger log = LoggerFactory.getLogger(TaskManager.class);
 	private final List<Task> activeTasks = new CopyOnWriteArrayList<>();
 	private final List<TaskStateListener> listeners = new CopyOnWriteArrayList<>();
+	/**
+	 * Concrete class and every supertype of each registered task, mapped to the first registered task of
+	 * that type. Rebuilt on register/unregister; overlays read it every frame with a single volatile read.
+	 */
+	private volatile Map<Class<?>, Optional<Task>> tasksByType = Collections.emptyMap();
+	/** Event routing built from every registered task's {@link TaskInterests}; swapped whole on change. */
+	private volatile Dispatch dispatch = Dispatch.EMPTY;
 
 	public void registerTask(Task task)
 	{
@@ -23,7 +33,9 @@ public class TaskManager
 		try
 		{
 			activeTasks.add(task);
+			rebuildTypeIndex();
 			task.start();
+			rebuildDispatch();
 			notifyTaskRegistered(task);
 		}
 		catch (Exception e) { log.warn("Failed to register task", e); }
@@ -35,6 +47,8 @@ public class TaskManager
 		try
 		{
 			activeTasks.remove(task);
+			rebuildTypeIndex();
+			rebuildDispatch();
 			task.stop();
 			notifyTaskUnregistered(task);
 		}
@@ -50,10 +64,124 @@ public class TaskManager
 	@SuppressWarnings("unchecked")
 	public <T extends Task> Optional<T> getTaskByType(Class<T> type)
 	{
-		return activeTasks.stream()
-			.filter(type::isInstance)
-			.map(t -> (T) t)
-			.findFirst();
+		Optional<Task> task = tasksByType.get(type);
+		return task == null ? Optional.empty() : (Optional<T>) task;
+	}
+
+	private synchronized void rebuildTypeIndex()
+	{
+		Map<Class<?>, Optional<Task>> index = new IdentityHashMap<>();
+		for (Task task : activeTasks)
+		{
+			Optional<Task> entry = Optional.of(task);
+			for (Class<?> c = task.getClass(); c != null && c != Object.class; c = c.getSuperclass())
+			{
+				index.putIfAbsent(c, entry);
+				indexInterfaces(index, c, entry);
+			}
+		}
+		tasksByType = index;
+	}
+
+	private static void indexInterfaces(Map<Class<?>, Optional<Task>> index, Class<?> c, Optional<Task> entry)
+	{
+		for (Class<?> i : c.getInterfaces())
+		{
+			index.putIfAbsent(i, entry);
+			indexInterfaces(index, i, entry);
+		}
+	}
+
+	/** Called by a task whose {@link Task#getInterests()} changed (e.g. once its var IDs are resolved). */
+	public void refreshInterests(Task task)
+	{
+		if (activeTasks.contains(task)) rebuildDispatch();
+	}
+
+	public void dispatchGameTick()
+	{
+		for (Task task : dispatch.gameTick)
+			task.onGameTick();
+	}
+
+	public void dispatchVarChanged(int varpId, int varbitId)
+	{
+		Dispatch d = dispatch;
+		for (Task task : d.allVars)
+			task.onVarChanged(varpId, varbitId);
+		for (Task task : d.varps.get(varpId))
+			if (!d.isAllVars(task)) task.onVarChanged(varpId, varbitId);
+		if (varbitId == -1) return;
+		for (Task task : d.varbits.get(varbitId))
+			if (!d.isAllVars(task) && !d.isVarpInterested(task, varpId)) task.onVarChanged(varpId, varbitId);
+	}
+
+	public void dispatchItemContainerChanged(int containerId)
+	{
+		for (Task task : dispatch.containers.get(containerId))
+			task.onItemContainerChanged(containerId);
+	}
+
+	public void dispatchMenuOptionClicked(String option, int objectId, int param0, int param1)
+	{
+		Dispatch d = dispatch;
+		Task[] byObject = d.objects.get(objectId);
+		for (Task task : byObject)
+			task.onMenuOptionClicked(option, objectId, param0, param1);
+		if (d.menuOptions.isEmpty() || option == null) return;
+		Task[] byOption = d.menuOptions.get(option);
+		if (byOption == null) return;
+		for (Task task : byOption)
+			if (!contains(byObject, task)) task.onMenuOptionClicked(option, objectId, param0, param1);
+	}
+
+	private static boolean contains(Task[] tasks, Task task)
+	{
+		for (Task t : tasks) if (t == task) return true;
+		return false;
+	}
+
+	private synchronized void rebuildDispatch()
+	{
+		List<Task> gameTick = new ArrayList<>();
+		List<Task> allVars = new ArrayList<>();
+		Map<Integer, List<Task>> varps = new HashMap<>();
+		Map<Integer, List<Task>> varbits = new HashMap<>();
+		Map<Integer, List<Task>> containers = new HashMap<>();
+		Map<Integer, List<Task>> objects = new HashMap<>();
+		Map<String, List<Task>> menuOptions = new HashMap<>();
+		for (Task task : activeTasks)
+		{
+			TaskInterests interests;
+			try { interests = task.getInterests(); }
+			catch (Exception e) { log.warn("Failed to read task interests", e); continue; }
+			if (interests == null) continue;
+			if (interests.isGameTick()) gameTick.add(task);
+			if (interests.isAllVars()) allVars.add(task);
+			addAll(varps, interests.getVarpIds(), task);
+			addAll(varbits, interests.getVarbitIds(), task);
+			addAll(containers, interests.getContainerIds(), task);
+			addAll(objects, interests.getObjectIds(), task);
+			for (String option : interests.getMenuOptions())
+				addTask(menuOptions, option, task);
+		}
+		Map<String, Task[]> options = new HashMap<>();
+		for (Map.Entry<String, List<Task>> e : menuOptions.entrySet())
+			options.put(e.getKey(), e.getValue().toArray(TaskDispatchTable.NO_TASKS));
+		dispatch = new Dispatch(gameTick.toArray(TaskDispatchTable.NO_TASKS), allVars.toArray(TaskDispatchTable.NO_TASKS),
+			new TaskDispatchTable(varps), new TaskDispatchTable(varbits), new TaskDispatchTable(containers),
+			new TaskDispatchTable(objects), options);
+	}
+
+	private static void addAll(Map<Integer, List<Task>> table, int[] ids, Task task)
+	{
+		for (int id : ids) addTask(table, id, task);
+	}
+
+	private static <K> void addTask(Map<K, List<Task>> table, K key, Task task)
+	{
+		List<Task> tasks = table.computeIfAbsent(key, k -> new ArrayList<>(1));
+		if (!tasks.contains(task)) tasks.add(task);
 	}
 
 	public void addTaskStateListener(TaskStateListener listener)
@@ -93,6 +221,44 @@ public class TaskManager
 		}
 	}
 
+	private static final class Dispatch
+	{
+		static final Dispatch EMPTY = new Dispatch(TaskDispatchTable.NO_TASKS, TaskDispatchTable.NO_TASKS,
+			TaskDispatchTable.EMPTY, TaskDispatchTable.EMPTY, TaskDispatchTable.EMPTY, TaskDispatchTable.EMPTY, Map.of());
+
+		final Task[] gameTick;
+		final Task[] allVars;
+		final TaskDispatchTable varps;
+		final TaskDispatchTable varbits;
+		final TaskDispatchTable containers;
+		final TaskDispatchTable objects;
+		final Map<String, Task[]> menuOptions;
+
+		Dispatch(Task[] gameTick, Task[] allVars, TaskDispatchTable varps, TaskDispatchTable varbits,
+			TaskDispatchTable containers, TaskDispatchTable objects, Map<String, Task[]> menuOptions)
+		{
+			this.gameTick = gameTick;
+			this.allVars = allVars;
+			this.varps = varps;
+			this.varbits = varbits;
+			this.containers = containers;
+			this.objects = objects;
+			this.menuOptions = menuOptions;
+		}
+
+		/** allVars tasks already got the event; don't deliver it twice. */
+		boolean isAllVars(Task task)
+		{
+			return allVars.length != 0 && contains(allVars, task);
+		}
+
+		/** A varbit change also changes its varp; a task listening to both gets it once. */
+		boolean isVarpInterested(Task task, int varpId)
+		{
+			return contains(varps.get(varpId), task);
+		}
+	}
+
 	public interface TaskStateListener
 	{
 		default void onTaskRegistered(Task task) {}
@@ -1,6 +1,6 @@
 package com.easytasks.tasks.birdhouse;
 
-import net.runelite.api.Client;
+import com.easytasks.geometry.PackedPoint;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.coords.WorldPoint;
 
@@ -61,6 +61,15 @@ public final class BirdhouseData
 
 	public static final List<Integer> MUSHROOM_TELEPORT_OBJECT_IDS = Collections.unmodifiableList(Arrays.asList(30922, 30923, 30924, 30925));
 
+	/**
+	 * Approximate standing tile next to each Magic Mushtree (House on the Hill, Verdant Valley, Sticky Swamp,
+	 * Mushroom Meadow), parallel to MUSHROOM_TELEPORT_OBJECT_IDS. Any tree teleports to any other.
+	 */
+	public static final List<WorldPoint> MUSHROOM_TREE_POINTS = Collections.unmodifiableList(Arrays.asList(
+		new WorldPoint(3764, 3879, 0), new WorldPoint(3758, 3756, 0),
+		new WorldPoint(3676, 3755, 0), new WorldPoint(3676, 3871, 0)
+	));
+
 	/** Mushroom tree object (30924) in Mushroom Forest — highlight when next step is Verdant Valley so player uses it to get there. */
 	public static final int MUSHROOM_TREE_TO_VALLEY_OBJECT_ID = 30924;
 
@@ -70,6 +79,9 @@ public final class BirdhouseData
 	public static final int OBJECT_ID_MUSHROOM_FOREST = 30565;
 	public static final int OBJECT_ID_TAR_SWAMP = 30566;
 
+	/** Time from filling a birdhouse with seeds until it has caught its birds. */
+	public static final long CATCH_DURATION_MS = 50 * 60 * 1000L;
+
 	/** VarPlayer value: unoccupied. */
 	public static final int VARPLAYER_VALUE_UNOCCUPIED = 0;
 	/** VarPlayer value: occupied but empty (no seeds). */
@@ -82,13 +94,80 @@ public final class BirdhouseData
 	public static final WorldPoint MUSHROOM_FOREST = new WorldPoint(3677, 3882, 0);
 	public static final WorldPoint TAR_SWAMP = new WorldPoint(3679, 3815, 0);
 
-	/** Plan §5.3: Only render overlays when player is on Fossil Island (approximate bounding box). */
-	public static boolean isOnFossilIsland(Client client)
+	/** The patch tiles above as {@link PackedPoint}s. */
+	public static final int VERDANT_VALLEY_NORTH_PACKED = PackedPoint.pack(VERDANT_VALLEY_NORTH);
+	public static final int VERDANT_VALLEY_SOUTH_PACKED = PackedPoint.pack(VERDANT_VALLEY_SOUTH);
+	public static final int MUSHROOM_FOREST_PACKED = PackedPoint.pack(MUSHROOM_FOREST);
+	public static final int TAR_SWAMP_PACKED = PackedPoint.pack(TAR_SWAMP);
+
+	/** Patch tiles in location index order (the indices used by routeOrder). */
+	public static final List<WorldPoint> PATCH_POINTS = Collections.unmodifiableList(Arrays.asList(
+		VERDANT_VALLEY_NORTH, VERDANT_VALLEY_SOUTH, MUSHROOM_FOREST, TAR_SWAMP
+	));
+
+	/** Patch object IDs in location index order. */
+	private static final int[] PATCH_OBJECT_IDS = {
+		OBJECT_ID_VALLEY_NORTH, OBJECT_ID_VALLEY_SOUTH, OBJECT_ID_MUSHROOM_FOREST, OBJECT_ID_TAR_SWAMP
+	};
+
+	/** PATCH_POINTS packed, same order. */
+	private static final int[] PATCH_PACKED_POINTS = {
+		VERDANT_VALLEY_NORTH_PACKED, VERDANT_VALLEY_SOUTH_PACKED, MUSHROOM_FOREST_PACKED, TAR_SWAMP_PACKED
+	};
+
+	/** Corners of the approximate Fossil Island box, plane 0. */
+	private static final int FOSSIL_ISLAND_MIN = PackedPoint.pack(3600, 3700, 0);
+	private static final int FOSSIL_ISLAND_MAX = PackedPoint.pack(3900, 3900, 0);
+
+	/** Location index of the patch with this object ID, or -1; four int compares, for the per-click prefilter. */
+	public static int patchIndexForObject(int objectId)
+	{
+		for (int i = 0; i < PATCH_OBJECT_IDS.length; i++)
+			if (PATCH_OBJECT_IDS[i] == objectId) return i;
+		return -1;
+	}
+
+	/** Packed tile of the patch at this location index. */
+	public static int getPatchPackedPoint(int patchIndex)
+	{
+		return PATCH_PACKED_POINTS[patchIndex];
+	}
+
+	/** Map regions covering the isOnFossilIsland box. */
+	public static final int[] FOSSIL_ISLAND_REGION_IDS = regionIds(FOSSIL_ISLAND_MIN, FOSSIL_ISLAND_MAX);
+
+	private static int[] regionIds(int min, int max)
+	{
+		int minRx = PackedPoint.regionId(min) >> 8;
+		int minRy = PackedPoint.regionId(min) & 0xFF;
+		int maxRx = PackedPoint.regionId(max) >> 8;
+		int maxRy = PackedPoint.regionId(max) & 0xFF;
+		int[] ids = new int[(maxRx - minRx + 1) * (maxRy - minRy + 1)];
+		int n = 0;
+		for (int rx = minRx; rx <= maxRx; rx++)
+			for (int ry = minRy; ry <= maxRy; ry++)
+				ids[n++] = (rx << 8) | ry;
+		return ids;
+	}
+
+	/**
+	 * Plan §5.3: Only render overlays when player is on Fossil Island (approximate bounding box). Takes the
+	 * packed player tile (see {@link BirdhouseTask#getPlayerTile()}); UNKNOWN is never on the island.
+	 */
+	public static boolean isOnFossilIsland(int playerTile)
+	{
+		return PackedPoint.inArea(playerTile, FOSSIL_ISLAND_MIN, FOSSIL_ISLAND_MAX);
+	}
+
+	/** Either Verdant Valley patch. */
+	public static boolean isVerdantValley(int packed)
+	{
+		return packed == VERDANT_VALLEY_NORTH_PACKED || packed == VERDANT_VALLEY_SOUTH_PACKED;
+	}
+
+	/** The Mushroom Forest or Tar Swamp patch. */
+	public static boolean isMushroomForestOrTarSwamp(int packed)
 	{
-		if (client == null || client.getLocalPlayer() == null) return false;
-		WorldPoint wp = client.getLocalPlayer().getWorldLocation();
-		return wp.getX() >= 3600 && wp.getX() <= 3900
-			&& wp.getY() >= 3700 && wp.getY() <= 3900
-			&& wp.getPlane() == 0;
+		return packed == MUSHROOM_FOREST_PACKED || packed == TAR_SWAMP_PACKED;
 	}
 }
@@ -1,8 +1,6 @@
 package com.easytasks.tasks.birdhouse;
 
 import com.easytasks.tasks.TaskLocation;
-import net.runelite.api.Client;
-import net.runelite.api.ObjectComposition;
 import net.runelite.api.coords.WorldPoint;
 
 import java.util.List;
@@ -10,6 +8,8 @@ import java.util.List;
 public class BirdhouseLocation extends TaskLocation
 {
 	private final int patchObjectId;
+	/** Position of this patch in the task's location list; indexes {@link PatchStateSnapshot}. */
+	private final int patchIndex;
 
 	/** Previous varp value for this patch (to detect 19→21 = just filled). */
 	private int lastVarplayerValue = -1;
@@ -20,26 +20,17 @@ public class BirdhouseLocation extends TaskLocation
 
 	public BirdhouseLocation(String name, WorldPoint worldPoint,
 	                         List<Integer> objectIds, List<Integer> teleportObjectIds,
-	                         int patchObjectId)
+	                         int patchObjectId, int patchIndex)
 	{
 		super(name, worldPoint, objectIds, teleportObjectIds);
 		this.patchObjectId = patchObjectId;
+		this.patchIndex = patchIndex;
 	}
 
 	/** Object ID for this patch (same whether empty or occupied; state from object definition). */
 	public int getPatchObjectId() { return patchObjectId; }
 
-	/** Read state value (0, 19, 21) from the patch object definition (VarPlayer or Varbit). */
-	public int getStateValue(Client client)
-	{
-		ObjectComposition comp = client.getObjectDefinition(patchObjectId);
-		if (comp == null) return -1;
-		int varpId = comp.getVarPlayerId();
-		if (varpId != -1) return client.getVarpValue(varpId);
-		int varbitId = comp.getVarbitId();
-		if (varbitId != -1) return client.getVarbitValue(varbitId);
-		return -1;
-	}
+	public int getPatchIndex() { return patchIndex; }
 
 	public int getLastVarplayerValue() { return lastVarplayerValue; }
 	public void setLastVarplayerValue(int lastVarplayerValue) { this.lastVarplayerValue = lastVarplayerValue; }
@@ -47,17 +38,4 @@ public class BirdhouseLocation extends TaskLocation
 	public void setFilledThisRun(boolean filledThisRun) { this.filledThisRun = filledThisRun; }
 	public boolean isHadNeedsFilling() { return hadNeedsFilling; }
 	public void setHadNeedsFilling(boolean hadNeedsFilling) { this.hadNeedsFilling = hadNeedsFilling; }
-
-	public boolean isEmpty(Client client)
-	{
-		return getStateValue(client) == BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED;
-	}
-	public boolean isPlaced(Client client)
-	{
-		return getStateValue(client) == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY;
-	}
-	public boolean isOccupied(Client client)
-	{
-		return getStateValue(client) == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL;
-	}
 }
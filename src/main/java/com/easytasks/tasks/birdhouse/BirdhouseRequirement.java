@@ -0,0 +1,42 @@
+package com.easytasks.tasks.birdhouse;
+
+import com.easytasks.tasks.Task;
+import net.runelite.api.gameval.ItemID;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Required item for a birdhouse run, built once per kind. Holds its accepted IDs as a sorted int array
+ * so {@link #matches} is a binary search with no boxing; BirdhouseMode shares these between modes.
+ */
+public final class BirdhouseRequirement implements Task.RequiredItem
+{
+	public static final BirdhouseRequirement ANY_BIRDHOUSE = new BirdhouseRequirement(BirdhouseData.BIRDHOUSE_IDS, 4);
+	public static final BirdhouseRequirement ANY_LOG = new BirdhouseRequirement(BirdhouseData.LOG_IDS, 4);
+	public static final BirdhouseRequirement ANY_SEED = new BirdhouseRequirement(BirdhouseData.SEED_IDS, 40);
+	public static final BirdhouseRequirement HAMMER = new BirdhouseRequirement(Collections.singletonList(ItemID.HAMMER), 1);
+	public static final BirdhouseRequirement CHISEL = new BirdhouseRequirement(Collections.singletonList(ItemID.CHISEL), 1);
+
+	private final List<Integer> itemIds;
+	private final int[] sortedIds;
+	private final int quantity;
+
+	private BirdhouseRequirement(List<Integer> itemIds, int quantity)
+	{
+		this.itemIds = List.copyOf(itemIds);
+		this.sortedIds = itemIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+		this.quantity = quantity;
+	}
+
+	@Override public int getItemId() { return itemIds.get(0); }
+	@Override public int getQuantity() { return quantity; }
+	@Override public List<Integer> getItemIds() { return itemIds; }
+
+	@Override
+	public boolean matches(int itemId)
+	{
+		return Arrays.binarySearch(sortedIds, itemId) >= 0;
+	}
+}
@@ -1,76 +1,109 @@
 package com.easytasks.tasks.birdhouse;
 
 import com.easytasks.BirdhouseConfig;
+import com.easytasks.geometry.PackedPoint;
+import com.easytasks.tasks.InventoryHistogram;
 import com.easytasks.tasks.Task;
 import com.easytasks.tasks.TaskLocation;
+import com.easytasks.tasks.TaskInterests;
 import com.easytasks.tasks.TaskManager;
 import com.easytasks.tasks.TaskStep;
 import net.runelite.api.Client;
 import net.runelite.api.InventoryID;
-import net.runelite.api.Item;
-import net.runelite.api.ItemContainer;
-import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.Player;
 import net.runelite.api.coords.WorldPoint;
 import javax.inject.Inject;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class BirdhouseTask implements Task
 {
 	private final Client client;
 	private final TaskManager taskManager;
 	private final BirdhouseConfig config;
+	private final InventoryHistogram inventory;
 
 	private volatile boolean active;
 	private BirdhouseMode mode;
 	private int[] routeOrder;
 	private List<BirdhouseLocation> locations;
+	/** locations in routeOrder, rebuilt whenever routeOrder changes; overlays read it every frame. */
+	private List<BirdhouseLocation> locationsInRouteOrder;
+	private final PatchStateSnapshot patchStates;
 	private List<TaskStep> steps;
 	private int currentStepIndex;
 	private Runnable onCompleteCallback;
+	private Consumer<BirdhouseLocation> onPatchFilled;
+	/** Progress to resume on the next {@link #start()}, instead of starting the run fresh. */
+	private RunSnapshot pendingRestore;
+
+	/** Proximity bits (one per patch index) for the player's last known tile; PLAYER_UNKNOWN before the first update. */
+	private int proximityMask = PLAYER_UNKNOWN;
+	/** Player's tile as of the last game tick, as a {@link PackedPoint}; overlays read it instead of the client. */
+	private int playerTile = PackedPoint.UNKNOWN;
+	/** Bumped on every change that can alter the guidance line (transition, var change, proximity, inventory). */
+	private int stateVersion;
+	private int guidanceVersion = -1;
+	private String guidanceLine;
+	/** Progress as last published for other threads; replaced at every transition. */
+	private volatile BirdhouseTaskSnapshot snapshot = BirdhouseTaskSnapshot.INACTIVE;
 
 	@Inject
-	public BirdhouseTask(Client client, TaskManager taskManager, BirdhouseConfig config)
+	public BirdhouseTask(Client client, TaskManager taskManager, BirdhouseConfig config, InventoryHistogram inventory)
 	{
 		this.client = client;
 		this.taskManager = taskManager;
 		this.config = config;
+		this.inventory = inventory;
 		this.locations = createDefaultLocations();
+		this.patchStates = new PatchStateSnapshot(locations);
 		this.steps = new ArrayList<>();
 		this.currentStepIndex = 0;
 		this.routeOrder = new int[]{0, 1, 2, 3};
+		this.locationsInRouteOrder = orderLocations();
 	}
 
-	public void setMode(BirdhouseMode mode) { this.mode = mode; }
+	public void setMode(BirdhouseMode mode)
+	{
+		this.mode = mode;
+		stateVersion++;
+	}
 
 	public void setRouteOrder(int[] routeOrder)
 	{
 		if (routeOrder == null || routeOrder.length != 4) return;
 		this.routeOrder = routeOrder.clone();
+		locationsInRouteOrder = orderLocations();
 		rebuildStepsFromRoute();
 	}
 
 	public void setOnCompleteCallback(Runnable onCompleteCallback) { this.onCompleteCallback = onCompleteCallback; }
 
+	/** Called when a patch's seeds go in (varp 19 → 21 on the current step); the birdhouse starts catching then. */
+	public void setOnPatchFilled(Consumer<BirdhouseLocation> onPatchFilled) { this.onPatchFilled = onPatchFilled; }
+
 	/** Rebuilds the step list from current routeOrder and resets currentStepIndex to match completed count. */
 	public void rebuildStepsFromRoute()
 	{
 		buildStepSequence();
-		int completed = getCompletedSteps();
+		int completed = countCompletedSteps();
 		currentStepIndex = Math.min(Math.max(0, completed), Math.max(0, steps.size() - 1));
-		taskManager.notifyTaskStateChanged(this);
+		notifyStateChanged();
+		// The current location may have changed; evaluate it now rather than waiting for its var to change.
+		checkProximityAndAdvance();
 	}
 
 	private static List<BirdhouseLocation> createDefaultLocations()
 	{
 		List<Integer> allTeleportIds = BirdhouseData.MUSHROOM_TELEPORT_OBJECT_IDS;
 		List<BirdhouseLocation> list = new ArrayList<>();
-		list.add(new BirdhouseLocation("Verdant Valley (North)", BirdhouseData.VERDANT_VALLEY_NORTH, Collections.singletonList(BirdhouseData.OBJECT_ID_VALLEY_NORTH), Collections.singletonList(allTeleportIds.get(0)), BirdhouseData.OBJECT_ID_VALLEY_NORTH));
-		list.add(new BirdhouseLocation("Verdant Valley (South)", BirdhouseData.VERDANT_VALLEY_SOUTH, Collections.singletonList(BirdhouseData.OBJECT_ID_VALLEY_SOUTH), Collections.singletonList(allTeleportIds.get(1)), BirdhouseData.OBJECT_ID_VALLEY_SOUTH));
-		list.add(new BirdhouseLocation("Mushroom Forest", BirdhouseData.MUSHROOM_FOREST, Collections.singletonList(BirdhouseData.OBJECT_ID_MUSHROOM_FOREST), Collections.singletonList(allTeleportIds.get(2)), BirdhouseData.OBJECT_ID_MUSHROOM_FOREST));
-		list.add(new BirdhouseLocation("Tar Swamp", BirdhouseData.TAR_SWAMP, Collections.singletonList(BirdhouseData.OBJECT_ID_TAR_SWAMP), Collections.singletonList(allTeleportIds.get(3)), BirdhouseData.OBJECT_ID_TAR_SWAMP));
+		list.add(new BirdhouseLocation("Verdant Valley (North)", BirdhouseData.VERDANT_VALLEY_NORTH, Collections.singletonList(BirdhouseData.OBJECT_ID_VALLEY_NORTH), Collections.singletonList(allTeleportIds.get(0)), BirdhouseData.OBJECT_ID_VALLEY_NORTH, 0));
+		list.add(new BirdhouseLocation("Verdant Valley (South)", BirdhouseData.VERDANT_VALLEY_SOUTH, Collections.singletonList(BirdhouseData.OBJECT_ID_VALLEY_SOUTH), Collections.singletonList(allTeleportIds.get(1)), BirdhouseData.OBJECT_ID_VALLEY_SOUTH, 1));
+		list.add(new BirdhouseLocation("Mushroom Forest", BirdhouseData.MUSHROOM_FOREST, Collections.singletonList(BirdhouseData.OBJECT_ID_MUSHROOM_FOREST), Collections.singletonList(allTeleportIds.get(2)), BirdhouseData.OBJECT_ID_MUSHROOM_FOREST, 2));
+		list.add(new BirdhouseLocation("Tar Swamp", BirdhouseData.TAR_SWAMP, Collections.singletonList(BirdhouseData.OBJECT_ID_TAR_SWAMP), Collections.singletonList(allTeleportIds.get(3)), BirdhouseData.OBJECT_ID_TAR_SWAMP, 3));
 		return list;
 	}
 
@@ -79,17 +112,63 @@ public class BirdhouseTask implements Task
 	{
 		active = true;
 		if (mode == null) mode = BirdhouseMode.BIRDHOUSES;
+		patchStates.reset();
+		patchStates.capture(client);
 		for (BirdhouseLocation loc : locations)
 		{
 			loc.setVisited(false);
 			loc.setCompleted(false);
 			loc.setFilledThisRun(false);
 			loc.setHadNeedsFilling(false);
-			loc.setLastVarplayerValue(loc.getStateValue(client));
+			loc.setLastVarplayerValue(getPatchState(loc));
 		}
 		buildStepSequence();
 		currentStepIndex = 0;
-		taskManager.notifyTaskStateChanged(this);
+		if (pendingRestore != null)
+		{
+			applySnapshot(pendingRestore);
+			pendingRestore = null;
+		}
+		notifyStateChanged();
+		checkProximityAndAdvance();
+	}
+
+	/** Resume from a saved run: mode and route now, per-patch progress when the task starts. */
+	public void restoreOnStart(RunSnapshot snapshot)
+	{
+		mode = snapshot.getMode();
+		routeOrder = snapshot.getRouteOrder();
+		locationsInRouteOrder = orderLocations();
+		pendingRestore = snapshot;
+	}
+
+	/** Copy of the run's progress for the run state file. Client thread. */
+	public RunSnapshot toRunSnapshot()
+	{
+		int[] flags = new int[locations.size()];
+		for (BirdhouseLocation loc : locations)
+		{
+			int f = 0;
+			if (loc.isVisited()) f |= RunSnapshot.FLAG_VISITED;
+			if (loc.isCompleted()) f |= RunSnapshot.FLAG_COMPLETED;
+			if (loc.isFilledThisRun()) f |= RunSnapshot.FLAG_FILLED_THIS_RUN;
+			if (loc.isHadNeedsFilling()) f |= RunSnapshot.FLAG_HAD_NEEDS_FILLING;
+			flags[loc.getPatchIndex()] = f;
+		}
+		return new RunSnapshot(mode == null ? BirdhouseMode.BIRDHOUSES : mode, getRouteOrder(), currentStepIndex, flags);
+	}
+
+	private void applySnapshot(RunSnapshot snapshot)
+	{
+		for (BirdhouseLocation loc : locations)
+		{
+			int f = snapshot.getPatchFlags(loc.getPatchIndex());
+			loc.setVisited((f & RunSnapshot.FLAG_VISITED) != 0);
+			loc.setCompleted((f & RunSnapshot.FLAG_COMPLETED) != 0);
+			loc.setFilledThisRun((f & RunSnapshot.FLAG_FILLED_THIS_RUN) != 0);
+			loc.setHadNeedsFilling((f & RunSnapshot.FLAG_HAD_NEEDS_FILLING) != 0);
+		}
+		currentStepIndex = Math.min(snapshot.getCurrentStepIndex(), Math.max(0, steps.size() - 1));
 	}
 
 	@Override
@@ -98,7 +177,7 @@ public class BirdhouseTask implements Task
 		active = false;
 		steps.clear();
 		currentStepIndex = 0;
-		taskManager.notifyTaskStateChanged(this);
+		notifyStateChanged();
 	}
 
 	@Override
@@ -116,12 +195,12 @@ public class BirdhouseTask implements Task
 		return true;
 	}
 
+	/** Thread-safe: reads the published snapshot. */
 	@Override
-	public int getProgress()
-	{
-		int total = getTotalSteps();
-		return total == 0 ? 0 : (getCompletedSteps() * 100) / total;
-	}
+	public int getProgress() { return snapshot.getProgress(); }
+
+	/** Consistent progress view for readers off the client thread. */
+	public BirdhouseTaskSnapshot getSnapshot() { return snapshot; }
 
 	@Override
 	public List<RequiredItem> getRequiredItems()
@@ -136,7 +215,13 @@ public class BirdhouseTask implements Task
 		return locations == null ? Collections.emptyList() : locations;
 	}
 
+	/** Unmodifiable and shared; the same instance is returned until the route changes. */
 	public List<BirdhouseLocation> getLocationsInRouteOrder()
+	{
+		return locationsInRouteOrder;
+	}
+
+	private List<BirdhouseLocation> orderLocations()
 	{
 		if (locations == null || routeOrder == null) return Collections.emptyList();
 		List<BirdhouseLocation> ordered = new ArrayList<>(4);
@@ -145,7 +230,7 @@ public class BirdhouseTask implements Task
 			int idx = routeOrder[i];
 			if (idx >= 0 && idx < locations.size()) ordered.add(locations.get(idx));
 		}
-		return ordered;
+		return Collections.unmodifiableList(ordered);
 	}
 
 	@Override
@@ -155,14 +240,29 @@ public class BirdhouseTask implements Task
 		return steps.get(currentStepIndex);
 	}
 
+	/** Thread-safe: reads the published snapshot. */
 	@Override
-	public int getCompletedSteps()
+	public int getCompletedSteps() { return snapshot.getCompletedSteps(); }
+
+	/** Live count for the client thread's own bookkeeping, which may run ahead of the published snapshot. */
+	private int countCompletedSteps()
 	{
 		int count = 0;
-		for (BirdhouseLocation loc : getLocationsInRouteOrder()) if (loc.isVisited()) count++;
+		for (BirdhouseLocation loc : locations) if (loc.isVisited()) count++;
 		return count;
 	}
 
+	/** Publishes a new snapshot, then tells listeners; every transition goes through here. */
+	private void notifyStateChanged()
+	{
+		stateVersion++;
+		int visited = 0;
+		for (BirdhouseLocation loc : locations)
+			if (loc.isVisited()) visited |= 1 << loc.getPatchIndex();
+		snapshot = new BirdhouseTaskSnapshot(active, mode, getRouteOrder(), currentStepIndex, visited, getTotalSteps());
+		taskManager.notifyTaskStateChanged(this);
+	}
+
 	@Override
 	public int getTotalSteps() { return 4; }
 
@@ -178,6 +278,121 @@ public class BirdhouseTask implements Task
 	public BirdhouseMode getMode() { return mode; }
 	public int[] getRouteOrder() { return routeOrder == null ? new int[]{0, 1, 2, 3} : routeOrder.clone(); }
 
+	/** State value (0, 19, 21) of the patch as of the last patch var change; -1 if unknown. */
+	public int getPatchState(BirdhouseLocation loc)
+	{
+		return patchStates.get(loc.getPatchIndex());
+	}
+
+	/**
+	 * Routes the four patch vars, the inventory, patch menu clicks and game ticks to this task. Until the
+	 * patch objects' definitions are readable the vars are unknown, so every var change is requested and
+	 * the interests are refreshed once they resolve.
+	 */
+	@Override
+	public TaskInterests getInterests()
+	{
+		TaskInterests.Builder b = TaskInterests.builder()
+			.gameTick()
+			.container(InventoryID.INVENTORY.getId());
+		for (BirdhouseLocation loc : locations)
+			b.objectId(loc.getPatchObjectId());
+		if (!patchStates.isResolved())
+			return b.allVars().build();
+		for (int i = 0; i < patchStates.size(); i++)
+		{
+			if (patchStates.getVarpId(i) != -1) b.varp(patchStates.getVarpId(i));
+			else if (patchStates.getVarbitId(i) != -1) b.varbit(patchStates.getVarbitId(i));
+		}
+		return b.build();
+	}
+
+	@Override
+	public int[] getRegionIds() { return BirdhouseData.FOSSIL_ISLAND_REGION_IDS; }
+
+	/**
+	 * Called on VarbitChanged. Vars that do not back one of the four patches are ignored; otherwise the
+	 * patch snapshot is refreshed and the current step's transition is evaluated on the same tick.
+	 */
+	@Override
+	public void onVarChanged(int varpId, int varbitId)
+	{
+		if (!active || !patchStates.isPatchVar(varpId, varbitId)) return;
+		boolean wasResolved = patchStates.isResolved();
+		patchStates.capture(client);
+		if (!wasResolved && patchStates.isResolved())
+			taskManager.refreshInterests(this);
+		stateVersion++;
+		checkProximityAndAdvance();
+	}
+
+	@Override
+	public void onGameTick()
+	{
+		Player player = client.getLocalPlayer();
+		updatePlayerLocation(player != null ? player.getWorldLocation() : null);
+	}
+
+	/**
+	 * Called once per GameTick (via {@link #onGameTick()}) with the player's tile. Only bumps the state
+	 * version when the player crosses a patch's proximity boundary, so guidance is not rebuilt while
+	 * walking within a zone.
+	 */
+	public void updatePlayerLocation(WorldPoint playerWp)
+	{
+		playerTile = playerWp != null ? PackedPoint.pack(playerWp) : PackedPoint.UNKNOWN;
+		int mask = PLAYER_UNKNOWN;
+		if (playerTile != PackedPoint.UNKNOWN)
+		{
+			mask = 0;
+			for (int i = 0; i < locations.size(); i++)
+			{
+				BirdhouseLocation loc = locations.get(i);
+				if (PackedPoint.isWithinDistance(playerTile, loc.getPackedPoint(), PROXIMITY_TILES)) mask |= 1 << loc.getPatchIndex();
+			}
+		}
+		if (mask != proximityMask)
+		{
+			proximityMask = mask;
+			stateVersion++;
+		}
+	}
+
+	/** The "Gather the required items" instruction depends on the inventory. */
+	@Override
+	public void onItemContainerChanged(int containerId)
+	{
+		if (containerId == InventoryID.INVENTORY.getId()) stateVersion++;
+	}
+
+	/** Incremented whenever anything the step guidance depends on changes. */
+	public int getStateVersion() { return stateVersion; }
+
+	/** Packed player tile as of the last game tick; {@link PackedPoint#UNKNOWN} before the first. */
+	public int getPlayerTile() { return playerTile; }
+
+	/**
+	 * "current/total: instruction" line for the step guidance overlay/infobox. Rebuilt only when
+	 * {@link #getStateVersion()} has moved since the last call; otherwise the same String is returned.
+	 */
+	public String getGuidanceLine()
+	{
+		if (!active) return null;
+		if (guidanceVersion != stateVersion)
+		{
+			TaskStep step = getCurrentStep();
+			if (step == null) guidanceLine = null;
+			else
+			{
+				String instruction = getCurrentStepInstruction();
+				if (instruction == null) instruction = step.getDescription();
+				guidanceLine = (countCompletedSteps() + 1) + "/" + getTotalSteps() + ": " + instruction;
+			}
+			guidanceVersion = stateVersion;
+		}
+		return guidanceLine;
+	}
+
 	/** The location for the current step (by route order). */
 	public BirdhouseLocation getCurrentStepLocation()
 	{
@@ -188,47 +403,48 @@ public class BirdhouseTask implements Task
 	public boolean isCurrentStepFillWithSeeds()
 	{
 		BirdhouseLocation loc = getCurrentStepLocation();
-		return loc != null && loc.getStateValue(client) == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY;
+		return loc != null && getPatchState(loc) == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY;
 	}
 
 	/**
-	 * Returns the instruction for the current step. If the player is not near the current step's patch,
+	 * Returns the instruction for the current step. If the player (as of the last {@link #updatePlayerLocation})
+	 * is not near the current step's patch,
 	 * returns "Go to &lt;location&gt;". Otherwise uses the patch state (varp) at that location:
 	 * 21 = harvest, 0 = build, 19 = fill. When just filled (varp 21 + hadNeedsFilling), returns next step's instruction.
 	 */
-	public String getCurrentStepInstruction(WorldPoint playerWp)
+	public String getCurrentStepInstruction()
 	{
 		if (!active || locations == null) return null;
-		return getInstructionForStep(currentStepIndex, playerWp);
+		return getInstructionForStep(currentStepIndex);
 	}
 
 	/** 1-based step number for display; matches the instruction (e.g. 2 when showing "Go to" next location after completing first). */
-	public int getCurrentStepNumberForDisplay(WorldPoint playerWp)
+	public int getCurrentStepNumberForDisplay()
 	{
 		if (!active || locations == null) return 1;
 		BirdhouseLocation loc = getLocationByRouteIndex(currentStepIndex);
 		if (loc == null) return currentStepIndex + 1;
 		boolean showingNext = false;
-		if (playerWp != null && !isWithinProximity(playerWp, loc.getWorldPoint()))
+		if (isPlayerAwayFrom(loc))
 		{
 			boolean completed = loc.isVisited();
 			if (!completed)
 			{
-				int varp = loc.getStateValue(client);
+				int varp = getPatchState(loc);
 				if (varp == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL
 					&& (loc.isFilledThisRun() || loc.isHadNeedsFilling()))
 					completed = true;
 			}
 			if (completed) showingNext = true;
 		}
-		else if (loc.getStateValue(client) == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL
+		else if (getPatchState(loc) == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL
 			&& (loc.isFilledThisRun() || loc.isHadNeedsFilling()))
 			showingNext = true;
 		int oneBased = showingNext ? currentStepIndex + 2 : currentStepIndex + 1;
 		return Math.min(oneBased, getTotalSteps());
 	}
 
-	private String getInstructionForStep(int routeIndex, WorldPoint playerWp)
+	private String getInstructionForStep(int routeIndex)
 	{
 		final int maxIndex = getLocationsInRouteOrder().size();
 		if (routeIndex < 0 || routeIndex >= maxIndex) return null;
@@ -240,17 +456,17 @@ public class BirdhouseTask implements Task
 			if (routeIndex == 0 && !hasRequiredItems())
 			{
 				BirdhouseLocation first = getLocationByRouteIndex(0);
-				if (first != null && (playerWp == null || !isWithinProximity(playerWp, first.getWorldPoint())))
+				if (first != null && !isPlayerNear(first))
 					return "Gather the required items";
 			}
 			BirdhouseLocation loc = getLocationByRouteIndex(routeIndex);
 			if (loc == null) return null;
-			if (playerWp != null && !isWithinProximity(playerWp, loc.getWorldPoint()))
+			if (isPlayerAwayFrom(loc))
 			{
 				boolean completed = loc.isVisited();
 				if (!completed)
 				{
-					int varp = loc.getStateValue(client);
+					int varp = getPatchState(loc);
 					if (varp == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL
 						&& (loc.isFilledThisRun() || loc.isHadNeedsFilling()))
 						completed = true;
@@ -262,7 +478,7 @@ public class BirdhouseTask implements Task
 				}
 				return "Go to " + loc.getName();
 			}
-			int varp = loc.getStateValue(client);
+			int varp = getPatchState(loc);
 			if (varp == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL)
 			{
 				if (loc.isFilledThisRun() || loc.isHadNeedsFilling())
@@ -287,36 +503,28 @@ public class BirdhouseTask implements Task
 	/** True if the player's inventory satisfies all required items for this task. */
 	private boolean hasRequiredItems()
 	{
-		ItemContainer inv = client.getItemContainer(InventoryID.INVENTORY);
-		if (inv == null) return false;
-		for (RequiredItem ri : getRequiredItems())
-		{
-			int have = countItemsInContainer(inv, ri.getItemIds());
-			if (have < ri.getQuantity()) return false;
-		}
+		// Indexed loop over the mode's shared table: no iterator, no boxing.
+		List<RequiredItem> items = getRequiredItems();
+		for (int i = 0; i < items.size(); i++)
+			if (inventory.count(items.get(i)) < items.get(i).getQuantity()) return false;
 		return true;
 	}
 
-	private static int countItemsInContainer(ItemContainer container, List<Integer> itemIds)
+	/** Player position known and within PROXIMITY_TILES of the patch. */
+	private boolean isPlayerNear(BirdhouseLocation loc)
 	{
-		if (container == null || itemIds == null) return 0;
-		int count = 0;
-		for (Item item : container.getItems())
-			if (itemIds.contains(item.getId())) count += item.getQuantity();
-		return count;
+		return proximityMask != PLAYER_UNKNOWN && (proximityMask & (1 << loc.getPatchIndex())) != 0;
 	}
 
-	private boolean isWithinProximity(WorldPoint playerWp, WorldPoint locWp)
+	/** Player position known and outside PROXIMITY_TILES of the patch (unknown position counts as neither). */
+	private boolean isPlayerAwayFrom(BirdhouseLocation loc)
 	{
-		if (playerWp.getPlane() != locWp.getPlane()) return false;
-		int dx = Math.abs(playerWp.getX() - locWp.getX());
-		int dy = Math.abs(playerWp.getY() - locWp.getY());
-		return Math.max(dx, dy) <= PROXIMITY_TILES;
+		return proximityMask != PLAYER_UNKNOWN && (proximityMask & (1 << loc.getPatchIndex())) == 0;
 	}
 
 	private BirdhouseLocation getLocationByRouteIndex(int routeIndex)
 	{
-		List<BirdhouseLocation> ordered = getLocationsInRouteOrder();
+		List<BirdhouseLocation> ordered = locationsInRouteOrder;
 		if (routeIndex < 0 || routeIndex >= ordered.size()) return null;
 		return ordered.get(routeIndex);
 	}
@@ -328,43 +536,41 @@ public class BirdhouseTask implements Task
 			steps.add(new TaskStep("Visit " + loc.getName(), loc.getWorldPoint(), Collections.emptyList(), () -> loc.isVisited()));
 	}
 
-	/** Plan §7.3: Detect Take (harvest), Build (place birdhouse). Advance on Fill is detected by polling state in checkProximityAndAdvance. */
+	/** Plan §7.3: Detect Take (harvest), Build (place birdhouse). Advance on Fill is detected from the patch var change in onVarChanged. */
+	@Override
 	public void onMenuOptionClicked(String option, int objectId, int param0, int param1)
 	{
-		if (!active || locations == null) return;
+		// Object id first: the cheapest test, and it rejects almost every click before any string work.
+		int patch = BirdhouseData.patchIndexForObject(objectId);
+		if (patch < 0 || !active || locations == null) return;
 		boolean take = "Take".equals(option);
-		boolean build = "Build".equals(option);
-		if (!take && !build) return;
-		LocalPoint lp = LocalPoint.fromScene(param0, param1);
-		if (lp == null) return;
-		WorldPoint wp = WorldPoint.fromLocal(client, lp);
-		for (BirdhouseLocation loc : locations)
+		if (!take && !"Build".equals(option)) return;
+		// param0/param1 are the clicked object's scene tile.
+		int clicked = PackedPoint.pack(client.getBaseX() + param0, client.getBaseY() + param1, client.getPlane());
+		if (clicked != BirdhouseData.getPatchPackedPoint(patch)) return;
+		BirdhouseLocation loc = locations.get(patch);
+		if (take)
 		{
-			if (loc.getPatchObjectId() == objectId && loc.getWorldPoint().equals(wp))
-			{
-				if (take)
-				{
-					loc.setFilledThisRun(false);
-					loc.setHadNeedsFilling(false);
-				}
-				taskManager.notifyTaskStateChanged(this);
-				break;
-			}
+			loc.setFilledThisRun(false);
+			loc.setHadNeedsFilling(false);
 		}
+		notifyStateChanged();
 	}
 
 	private void advanceToNextStep()
 	{
-		int completed = getCompletedSteps();
+		int completed = countCompletedSteps();
 		if (completed < steps.size()) currentStepIndex = completed;
 	}
 
 	/** When the player is within this many tiles of the current patch, "Go to X" is suppressed and step instruction is shown. */
 	private static final int PROXIMITY_TILES = 10;
+	private static final int PLAYER_UNKNOWN = -1;
 
 	/**
-	 * Polls state from object definition (VarPlayer/Varbit per patch). When current step's location
-	 * has state 21 and hadNeedsFilling (or prev 19), mark filled and advance. Called every GameTick.
+	 * Reads state from the patch snapshot (VarPlayer/Varbit per patch). When current step's location
+	 * has state 21 and hadNeedsFilling (or prev 19), mark filled and advance. Called when a patch var
+	 * changes and whenever the current step moves, so a newly current location is evaluated immediately.
 	 */
 	public void checkProximityAndAdvance()
 	{
@@ -373,7 +579,7 @@ public class BirdhouseTask implements Task
 		if (currentStepIndex < 0 || currentStepIndex >= ordered.size()) return;
 		BirdhouseLocation loc = ordered.get(currentStepIndex);
 		if (loc.isVisited()) return;
-		int value = loc.getStateValue(client);
+		int value = getPatchState(loc);
 		loc.setLastVarplayerValue(value);
 		if (value == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY)
 			loc.setHadNeedsFilling(true);
@@ -383,8 +589,9 @@ public class BirdhouseTask implements Task
 			loc.setFilledThisRun(true);
 			loc.setVisited(true);
 			loc.setCompleted(true);
+			if (onPatchFilled != null) onPatchFilled.accept(loc);
 			advanceToNextStep();
-			taskManager.notifyTaskStateChanged(this);
+			notifyStateChanged();
 			if (isComplete())
 			{
 				if (onCompleteCallback != null)
@@ -393,6 +600,12 @@ public class BirdhouseTask implements Task
 					return;
 				}
 			}
+			else
+			{
+				// The next location gets no var change of its own; pick up its current state (e.g. already built).
+				checkProximityAndAdvance();
+				return;
+			}
 		}
 		else if (value != BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL)
 		{
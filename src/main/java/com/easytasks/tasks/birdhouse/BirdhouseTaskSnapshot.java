@@ -0,0 +1,40 @@
+package com.easytasks.tasks.birdhouse;
+
+/**
+ * Immutable view of a BirdhouseTask's observable progress. The task builds a new one on the client thread
+ * at every transition and publishes it through a single volatile field, so any thread (the Swing side
+ * panel, the run state writer) reads a consistent set of values without locks.
+ */
+public final class BirdhouseTaskSnapshot
+{
+	public static final BirdhouseTaskSnapshot INACTIVE = new BirdhouseTaskSnapshot(false, null, new int[]{0, 1, 2, 3}, 0, 0, 4);
+
+	private final boolean active;
+	private final BirdhouseMode mode;
+	private final int[] routeOrder;
+	private final int currentStepIndex;
+	/** Bit per patch index. */
+	private final int visitedMask;
+	private final int totalSteps;
+
+	BirdhouseTaskSnapshot(boolean active, BirdhouseMode mode, int[] routeOrder, int currentStepIndex, int visitedMask, int totalSteps)
+	{
+		this.active = active;
+		this.mode = mode;
+		this.routeOrder = routeOrder;
+		this.currentStepIndex = currentStepIndex;
+		this.visitedMask = visitedMask;
+		this.totalSteps = totalSteps;
+	}
+
+	public boolean isActive() { return active; }
+	public BirdhouseMode getMode() { return mode; }
+	/** Location index visited at the given route position. */
+	public int getRouteIndex(int position) { return routeOrder[position]; }
+	public int getCurrentStepIndex() { return currentStepIndex; }
+	public boolean isVisited(int patchIndex) { return (visitedMask & (1 << patchIndex)) != 0; }
+	public int getVisitedMask() { return visitedMask; }
+	public int getCompletedSteps() { return Integer.bitCount(visitedMask); }
+	public int getTotalSteps() { return totalSteps; }
+	public int getProgress() { return totalSteps == 0 ? 0 : getCompletedSteps() * 100 / totalSteps; }
+}
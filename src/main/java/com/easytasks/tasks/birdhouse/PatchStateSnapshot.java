@@ -0,0 +1,106 @@
+package com.easytasks.tasks.birdhouse;
+
+import net.runelite.api.Client;
+import net.runelite.api.ObjectComposition;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copy of every patch's state value (0, 19, 21), indexed by {@link BirdhouseLocation#getPatchIndex()}. Captured
+ * when the run starts and again whenever one of the patch vars changes (BirdhouseTask.onVarChanged), not
+ * per tick. The VarPlayer/Varbit backing each patch is resolved from its object definition once per run;
+ * after that a capture is one var read per patch, and overlays/infoboxes read the array instead of the client.
+ */
+public class PatchStateSnapshot
+{
+	private static final int UNRESOLVED = -2;
+
+	private final int[] patchObjectIds;
+	private final int[] varpIds;
+	private final int[] varbitIds;
+	private final int[] states;
+
+	public PatchStateSnapshot(List<BirdhouseLocation> locations)
+	{
+		int n = locations.size();
+		patchObjectIds = new int[n];
+		varpIds = new int[n];
+		varbitIds = new int[n];
+		states = new int[n];
+		for (BirdhouseLocation loc : locations)
+			patchObjectIds[loc.getPatchIndex()] = loc.getPatchObjectId();
+		reset();
+	}
+
+	/** Forgets resolved var IDs and captured values; the next {@link #capture} resolves again. */
+	public void reset()
+	{
+		Arrays.fill(varpIds, UNRESOLVED);
+		Arrays.fill(varbitIds, UNRESOLVED);
+		Arrays.fill(states, -1);
+	}
+
+	/** Reads the current value of every patch into the snapshot. Client thread only. */
+	public void capture(Client client)
+	{
+		for (int i = 0; i < states.length; i++)
+		{
+			if (varpIds[i] == UNRESOLVED && !resolve(client, i))
+			{
+				states[i] = -1;
+				continue;
+			}
+			if (varpIds[i] != -1) states[i] = client.getVarpValue(varpIds[i]);
+			else if (varbitIds[i] != -1) states[i] = client.getVarbitValue(varbitIds[i]);
+			else states[i] = -1;
+		}
+	}
+
+	private boolean resolve(Client client, int i)
+	{
+		ObjectComposition comp = client.getObjectDefinition(patchObjectIds[i]);
+		if (comp == null) return false;
+		varpIds[i] = comp.getVarPlayerId();
+		varbitIds[i] = comp.getVarbitId();
+		return true;
+	}
+
+	/** True once every patch's backing var has been read from its object definition. */
+	public boolean isResolved()
+	{
+		for (int varpId : varpIds)
+			if (varpId == UNRESOLVED) return false;
+		return true;
+	}
+
+	/** VarPlayer backing the patch, -1 if it uses a varbit, or -2 if not resolved yet. */
+	public int getVarpId(int patchIndex) { return varpIds[patchIndex]; }
+
+	/** Varbit backing the patch, -1 if it uses a VarPlayer, or -2 if not resolved yet. */
+	public int getVarbitId(int patchIndex) { return varbitIds[patchIndex]; }
+
+	public int size() { return states.length; }
+
+	/**
+	 * True if a VarbitChanged with these IDs can change a patch state. Before every patch is resolved
+	 * this conservatively returns true so the caller captures (and resolves) again.
+	 */
+	public boolean isPatchVar(int varpId, int varbitId)
+	{
+		for (int i = 0; i < states.length; i++)
+		{
+			if (varpIds[i] == UNRESOLVED) return true;
+			if (varpIds[i] != -1 && varpIds[i] == varpId) return true;
+			if (varpIds[i] == -1 && varbitIds[i] != -1 && varbitIds[i] == varbitId) return true;
+		}
+		return false;
+	}
+
+	/** Last captured state value for the patch, or -1 if unknown. */
+	public int get(int patchIndex)
+	{
+		if (patchIndex < 0 || patchIndex >= states.length) return -1;
+		return states[patchIndex];
+	}
+}
@@ -0,0 +1,82 @@
+package com.easytasks.tasks.birdhouse;
+
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+
+/**
+ * Immutable copy of an active birdhouse run's progress: mode, route, current step and each patch's
+ * run flags. Encodes to a fixed-size versioned binary record (15 bytes) for the run state file.
+ */
+public final class RunSnapshot
+{
+	private static final int MAGIC = 0x45545253; // "ETRS"
+	private static final byte VERSION = 1;
+	private static final int PATCH_COUNT = 4;
+	/** magic, version, mode, route order, current step, per-patch flags. */
+	static final int ENCODED_SIZE = 4 + 1 + 1 + PATCH_COUNT + 1 + PATCH_COUNT;
+
+	static final int FLAG_VISITED = 1;
+	static final int FLAG_COMPLETED = 1 << 1;
+	static final int FLAG_FILLED_THIS_RUN = 1 << 2;
+	static final int FLAG_HAD_NEEDS_FILLING = 1 << 3;
+
+	private final BirdhouseMode mode;
+	private final int[] routeOrder;
+	private final int currentStepIndex;
+	/** FLAG_* bits per patch index. */
+	private final int[] patchFlags;
+
+	RunSnapshot(BirdhouseMode mode, int[] routeOrder, int currentStepIndex, int[] patchFlags)
+	{
+		this.mode = mode;
+		this.routeOrder = routeOrder;
+		this.currentStepIndex = currentStepIndex;
+		this.patchFlags = patchFlags;
+	}
+
+	public BirdhouseMode getMode() { return mode; }
+	public int[] getRouteOrder() { return routeOrder.clone(); }
+	int getCurrentStepIndex() { return currentStepIndex; }
+	int getPatchFlags(int patchIndex) { return patchFlags[patchIndex]; }
+
+	public byte[] encode()
+	{
+		ByteBuffer buf = ByteBuffer.allocate(ENCODED_SIZE);
+		buf.putInt(MAGIC).put(VERSION).put((byte) mode.ordinal());
+		for (int i = 0; i < PATCH_COUNT; i++) buf.put((byte) routeOrder[i]);
+		buf.put((byte) currentStepIndex);
+		for (int i = 0; i < PATCH_COUNT; i++) buf.put((byte) patchFlags[i]);
+		return buf.array();
+	}
+
+	/** Decodes {@link #encode()} output; null if the data is from another format version or malformed. */
+	public static RunSnapshot decode(byte[] data)
+	{
+		if (data == null || data.length < ENCODED_SIZE) return null;
+		try
+		{
+			ByteBuffer buf = ByteBuffer.wrap(data);
+			if (buf.getInt() != MAGIC || buf.get() != VERSION) return null;
+			int modeOrdinal = buf.get();
+			BirdhouseMode[] modes = BirdhouseMode.values();
+			if (modeOrdinal < 0 || modeOrdinal >= modes.length) return null;
+			int[] route = new int[PATCH_COUNT];
+			int seen = 0;
+			for (int i = 0; i < PATCH_COUNT; i++)
+			{
+				route[i] = buf.get();
+				if (route[i] < 0 || route[i] >= PATCH_COUNT || (seen & (1 << route[i])) != 0) return null;
+				seen |= 1 << route[i];
+			}
+			int step = buf.get();
+			if (step < 0 || step >= PATCH_COUNT) return null;
+			int[] flags = new int[PATCH_COUNT];
+			for (int i = 0; i < PATCH_COUNT; i++) flags[i] = buf.get() & 0xFF;
+			return new RunSnapshot(modes[modeOrdinal], route, step, flags);
+		}
+		catch (BufferUnderflowException e)
+		{
+			return null;
+		}
+	}
+}
@@ -1,9 +1,11 @@
 package com.easytasks.ui;
 
 import com.easytasks.BirdhouseConfig;
+import com.easytasks.history.HistoryStats;
 import com.easytasks.tasks.Task;
 import com.easytasks.tasks.TaskManager;
 import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import com.easytasks.tasks.birdhouse.BirdhouseTaskSnapshot;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.ui.PluginPanel;
 
@@ -36,6 +38,13 @@ public class BirdhouseSidePanel extends PluginPanel implements TaskManager.TaskS
 	private final JLabel progressLabel;
 	private final JList<Integer> routeList;
 	private final DefaultListModel<Integer> routeModel;
+	private final JLabel historyRunsLabel;
+	/** One line per patch, by patch index. */
+	private final JLabel[] historyPatchLabels = new JLabel[LOCATION_NAMES.length];
+	private final JLabel historySeedsLabel;
+
+	private final CoalescingUiUpdater<BirdhouseTaskSnapshot> progressUpdater = new CoalescingUiUpdater<>(this::applyProgress);
+	private final CoalescingUiUpdater<HistoryStats> historyUpdater = new CoalescingUiUpdater<>(this::applyHistoryStats);
 
 	private Runnable onStartRequested;
 	private Runnable onStopRequested;
@@ -112,6 +121,18 @@ public class BirdhouseSidePanel extends PluginPanel implements TaskManager.TaskS
 		routeScroll.setBackground(BG_DARK);
 		routeScroll.getViewport().setBackground(BG_PANEL);
 		center.add(routeScroll);
+		center.add(Box.createVerticalStrut(12));
+
+		JLabel historyTitle = new JLabel("Run history");
+		historyTitle.setForeground(FG_LIGHT);
+		historyTitle.setAlignmentX(Component.LEFT_ALIGNMENT);
+		center.add(historyTitle);
+		center.add(Box.createVerticalStrut(4));
+		historyRunsLabel = createHistoryLabel(center);
+		for (int i = 0; i < historyPatchLabels.length; i++)
+			historyPatchLabels[i] = createHistoryLabel(center);
+		historySeedsLabel = createHistoryLabel(center);
+		applyHistoryStats(HistoryStats.EMPTY);
 
 		JScrollPane scroll = new JScrollPane(center);
 		scroll.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
@@ -135,6 +156,15 @@ public class BirdhouseSidePanel extends PluginPanel implements TaskManager.TaskS
 		super.removeNotify();
 	}
 
+	private static JLabel createHistoryLabel(JPanel parent)
+	{
+		JLabel label = new JLabel();
+		label.setForeground(FG_LIGHT);
+		label.setAlignmentX(Component.LEFT_ALIGNMENT);
+		parent.add(label);
+		return label;
+	}
+
 	private static void styleButton(JButton btn)
 	{
 		btn.setBackground(BUTTON_BG);
@@ -183,41 +213,61 @@ public class BirdhouseSidePanel extends PluginPanel implements TaskManager.TaskS
 	@Override
 	public void onTaskRegistered(Task task)
 	{
-		SwingUtilities.invokeLater(() -> updateForTask(task));
+		if (task instanceof BirdhouseTask) progressUpdater.post(((BirdhouseTask) task).getSnapshot());
 	}
 
 	@Override
 	public void onTaskUnregistered(Task task)
 	{
-		SwingUtilities.invokeLater(this::updateIdle);
+		progressUpdater.post(BirdhouseTaskSnapshot.INACTIVE);
 	}
 
+	/** The task's published snapshot is immutable, so it is handed to the EDT as is, at most once per frame. */
 	@Override
 	public void onTaskStateChanged(Task task)
 	{
-		SwingUtilities.invokeLater(() -> updateForTask(task));
+		if (task instanceof BirdhouseTask) progressUpdater.post(((BirdhouseTask) task).getSnapshot());
 	}
 
-	private void updateForTask(Task task)
+	private void applyProgress(BirdhouseTaskSnapshot progress)
 	{
-		if (!(task instanceof BirdhouseTask)) return;
-		BirdhouseTask bt = (BirdhouseTask) task;
-		startStopButton.setText("Stop Birdhouse Run");
-		progressBar.setValue(bt.getProgress());
-		progressLabel.setText(bt.getCompletedSteps() + "/" + bt.getTotalSteps() + " locations completed");
+		startStopButton.setText(progress.isActive() ? "Stop Birdhouse Run" : "Start Birdhouse Run");
+		progressBar.setValue(progress.getProgress());
+		progressLabel.setText(progress.getCompletedSteps() + "/" + progress.getTotalSteps() + " locations completed");
 	}
 
-	private void updateIdle()
+	/** Latest run history aggregates. Safe to call from any thread. */
+	public void setHistoryStats(HistoryStats stats)
 	{
-		startStopButton.setText("Start Birdhouse Run");
-		progressBar.setValue(0);
-		progressLabel.setText("0/4 locations completed");
+		historyUpdater.post(stats);
+	}
+
+	private void applyHistoryStats(HistoryStats stats)
+	{
+		if (stats.getCompletedRuns() == 0)
+			historyRunsLabel.setText("No completed runs yet");
+		else
+			historyRunsLabel.setText(stats.getCompletedRuns() + " runs, avg " + formatDuration(stats.getMeanRunMs())
+				+ " (last 10: " + formatDuration(stats.getRecentMeanRunMs()) + ")");
+		for (int i = 0; i < historyPatchLabels.length; i++)
+		{
+			historyPatchLabels[i].setText(i >= stats.getPatchCount() || stats.getPatchSamples(i) == 0 ? ""
+				: LOCATION_NAMES[i] + ": p50 " + formatDuration(stats.getPatchP50Ms(i)) + ", p90 " + formatDuration(stats.getPatchP90Ms(i)));
+		}
+		historySeedsLabel.setText(stats.getCompletedRuns() == 0 ? ""
+			: String.format("Seeds per run: %.1f", stats.getMeanSeedsPerRun()));
+	}
+
+	private static String formatDuration(long ms)
+	{
+		long seconds = ms / 1000;
+		return seconds < 60 ? seconds + "s" : (seconds / 60) + "m " + (seconds % 60) + "s";
 	}
 
 	/** Called when the run completes or stops so the button and progress reset. Safe to call from any thread. */
 	public void setRunIdle()
 	{
-		SwingUtilities.invokeLater(this::updateIdle);
+		progressUpdater.post(BirdhouseTaskSnapshot.INACTIVE);
 	}
 
 	private void refreshRouteOrderFromConfig()
@@ -250,6 +300,17 @@ public class BirdhouseSidePanel extends PluginPanel implements TaskManager.TaskS
 		configManager.setConfiguration("birdhouse", "routeOrder", sb.toString());
 	}
 
+	/** Replaces the route list (e.g. with an optimized order) and persists it. Safe to call from any thread. */
+	public void setRouteOrder(int[] order)
+	{
+		int[] copy = order.clone();
+		SwingUtilities.invokeLater(() -> {
+			routeModel.clear();
+			for (int i : copy) routeModel.addElement(i);
+			persistRouteOrder();
+		});
+	}
+
 	/** Plan §4.1: Drag-and-drop reorder; persists routeOrder config immediately. */
 	private class RouteOrderTransferHandler extends TransferHandler
 	{
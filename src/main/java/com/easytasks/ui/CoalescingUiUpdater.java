@@ -0,0 +1,61 @@
+package com.easytasks.ui;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Hands values from any thread to a Swing consumer, applying only the latest one and at most once per
+ * frame interval. Posting marks the update dirty; a burst of posts costs one invokeLater and one apply.
+ */
+final class CoalescingUiUpdater<T>
+{
+	/** One client frame at 50 fps. */
+	static final int FRAME_INTERVAL_MS = 20;
+
+	private final Consumer<T> apply;
+	private final AtomicReference<T> pending = new AtomicReference<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	/** EDT only. */
+	private final Timer timer;
+	private long lastAppliedMs;
+
+	CoalescingUiUpdater(Consumer<T> apply)
+	{
+		this.apply = apply;
+		this.timer = new Timer(FRAME_INTERVAL_MS, e -> flush());
+		this.timer.setRepeats(false);
+	}
+
+	/** Replaces any not-yet-applied value; schedules an EDT update unless one is already pending. */
+	void post(T value)
+	{
+		pending.set(value);
+		if (scheduled.compareAndSet(false, true))
+			SwingUtilities.invokeLater(this::drain);
+	}
+
+	private void drain()
+	{
+		long wait = FRAME_INTERVAL_MS - (System.currentTimeMillis() - lastAppliedMs);
+		if (wait > 0)
+		{
+			timer.setInitialDelay((int) wait);
+			timer.restart();
+			return;
+		}
+		flush();
+	}
+
+	private void flush()
+	{
+		// Clear the flag before taking the value: a post racing with us either lands in this apply or schedules the next.
+		scheduled.set(false);
+		T value = pending.getAndSet(null);
+		if (value == null) return;
+		lastAppliedMs = System.currentTimeMillis();
+		apply.accept(value);
+	}
+}
@@ -0,0 +1,126 @@
+package com.easytasks.overlays;
+
+import com.easytasks.BirdhouseConfig;
+import com.easytasks.BirdhouseConfigHolder;
+import com.easytasks.debug.PerfTimings;
+import com.easytasks.scene.SceneObjectIndex;
+import com.easytasks.tasks.InventoryHistogram;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseMode;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import com.easytasks.testing.FakeClient;
+import com.easytasks.testing.RecordingGraphics;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Polygon;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Steady-state frames of the scene highlight overlays must not allocate. The player stands at Verdant
+ * Valley North mid-run with both valley patches and the mushtree in the loaded scene, so the birdhouse
+ * overlay draws patch hulls and the teleport overlay draws the tree; the camera is still, so every hull
+ * comes from the overlays' caches. Drawing goes to a {@link RecordingGraphics}, which keeps Java2D's own
+ * rasterizer allocations out of the count.
+ */
+public class OverlayAllocationTest
+{
+	private static final int FRAMES = 20_000;
+	/** Both valley patches plus the mushtree. */
+	private static final int SHAPES_PER_FRAME = 3;
+
+	private final FakeClient fake = new FakeClient();
+	private final RecordingGraphics graphics = new RecordingGraphics();
+	private BirdhouseHighlightOverlay birdhouseOverlay;
+	private TeleportHighlightOverlay teleportOverlay;
+
+	@Before
+	public void setUp()
+	{
+		TaskManager taskManager = new TaskManager();
+		BirdhouseConfig config = FakeClient.defaultConfig(BirdhouseConfig.class);
+		BirdhouseConfigHolder configHolder = new BirdhouseConfigHolder(config);
+		PerfTimings perfTimings = new PerfTimings();
+
+		fake.setVarp(FakeClient.PATCH_VARPS[0], BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY);
+		fake.setPlayerLocation(BirdhouseData.VERDANT_VALLEY_NORTH);
+		Polygon clickbox = new Polygon(new int[]{300, 340, 340, 300}, new int[]{200, 200, 240, 240}, 4);
+		fake.addGameObject(BirdhouseData.OBJECT_ID_VALLEY_NORTH, BirdhouseData.VERDANT_VALLEY_NORTH, clickbox);
+		fake.addGameObject(BirdhouseData.OBJECT_ID_VALLEY_SOUTH, BirdhouseData.VERDANT_VALLEY_SOUTH, clickbox);
+		SceneObjectIndex sceneObjectIndex = new SceneObjectIndex();
+		for (int id : BirdhouseData.MUSHROOM_TELEPORT_OBJECT_IDS)
+		{
+			sceneObjectIndex.track(id);
+			fake.addGameObject(id, BirdhouseData.MUSHROOM_TREE_POINTS.get(1), clickbox);
+		}
+		sceneObjectIndex.rebuild(fake.client());
+
+		// First step is Mushroom Forest, reached through the Verdant Valley mushtree.
+		BirdhouseTask task = new BirdhouseTask(fake.client(), taskManager, config, new InventoryHistogram());
+		task.setMode(BirdhouseMode.BIRDHOUSES);
+		task.setRouteOrder(new int[]{2, 3, 0, 1});
+		taskManager.registerTask(task);
+		task.updatePlayerLocation(fake.getPlayerLocation());
+
+		birdhouseOverlay = new BirdhouseHighlightOverlay(fake.client(), configHolder, taskManager, perfTimings);
+		teleportOverlay = new TeleportHighlightOverlay(fake.client(), configHolder, taskManager, sceneObjectIndex, perfTimings);
+	}
+
+	@Test
+	public void overlaysDraw()
+	{
+		birdhouseOverlay.render(graphics);
+		assertEquals("valley patches", 2, graphics.getFills());
+		teleportOverlay.render(graphics);
+		assertEquals("mushtree", 3, graphics.getFills());
+	}
+
+	@Test
+	public void idleCameraReusesHulls()
+	{
+		frame();
+		int projected = fake.getClickboxCalls();
+		assertEquals(SHAPES_PER_FRAME, projected);
+		for (int i = 0; i < 100; i++) frame();
+		assertEquals(projected, fake.getClickboxCalls());
+
+		birdhouseOverlay.invalidateHulls();
+		teleportOverlay.invalidateHulls();
+		frame();
+		assertEquals(2 * projected, fake.getClickboxCalls());
+	}
+
+	@Test
+	public void steadyStateFramesDoNotAllocate()
+	{
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue("needs per-thread allocation counters", bean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+		long thread = Thread.currentThread().getId();
+
+		for (int i = 0; i < FRAMES; i++) frame();
+		int fillsBefore = graphics.getFills();
+
+		// Reading the counter may itself allocate; measure that and take it off.
+		long first = threads.getThreadAllocatedBytes(thread);
+		long overhead = threads.getThreadAllocatedBytes(thread) - first;
+		long before = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < FRAMES; i++) frame();
+		long allocated = threads.getThreadAllocatedBytes(thread) - before - overhead;
+
+		assertEquals((long) SHAPES_PER_FRAME * FRAMES, graphics.getFills() - fillsBefore);
+		assertEquals("bytes allocated over " + FRAMES + " frames", 0L, allocated);
+	}
+
+	private void frame()
+	{
+		birdhouseOverlay.render(graphics);
+		teleportOverlay.render(graphics);
+	}
+}
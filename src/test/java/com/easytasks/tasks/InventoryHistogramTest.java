@@ -0,0 +1,49 @@
+package com.easytasks.tasks;
+
+import com.easytasks.tasks.birdhouse.BirdhouseRequirement;
+import com.easytasks.testing.FakeClient;
+import net.runelite.api.Item;
+import net.runelite.api.gameval.ItemID;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class InventoryHistogramTest
+{
+	private final FakeClient fake = new FakeClient();
+	private final InventoryHistogram histogram = new InventoryHistogram();
+
+	@Test
+	public void sumsStacksOfTheSameItem()
+	{
+		fake.setInventory(new Item(ItemID.BARLEY_SEED, 10), new Item(ItemID.HAMMER, 1),
+			new Item(ItemID.BARLEY_SEED, 5), new Item(ItemID.JUTE_SEED, 20), new Item(-1, 0));
+		histogram.update(fake.getInventoryContainer());
+
+		assertEquals(15, histogram.count(ItemID.BARLEY_SEED));
+		assertEquals(1, histogram.count(ItemID.HAMMER));
+		assertEquals(0, histogram.count(ItemID.CHISEL));
+		assertEquals(35, histogram.count(BirdhouseRequirement.ANY_SEED));
+	}
+
+	/** More distinct items than the initial table holds: lookups of present and absent ids still return. */
+	@Test
+	public void largeContainer()
+	{
+		Item[] items = new Item[200];
+		for (int i = 0; i < items.length; i++)
+			items[i] = new Item(1000 + i, i + 1);
+		fake.setInventory(items);
+		histogram.update(fake.getInventoryContainer());
+
+		for (int i = 0; i < items.length; i++)
+			assertEquals(i + 1, histogram.count(1000 + i));
+		assertEquals(0, histogram.count(999));
+		assertEquals(0, histogram.count(5000));
+
+		fake.setInventory(new Item(ItemID.HAMMER, 1));
+		histogram.update(fake.getInventoryContainer());
+		assertEquals(1, histogram.count(ItemID.HAMMER));
+		assertEquals(0, histogram.count(1000));
+	}
+}
@@ -0,0 +1,104 @@
+package com.easytasks.tasks.birdhouse;
+
+import com.easytasks.BirdhouseConfig;
+import com.easytasks.tasks.InventoryHistogram;
+import com.easytasks.tasks.Task;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.testing.FakeClient;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Replays one scripted sequence of patch var changes through the old per-tick polling path and the
+ * VarbitChanged-driven path, and checks both produce the same step transitions on the same ticks.
+ *
+ * Polling used to capture every patch and evaluate the current step on each GameTick; that is reproduced
+ * here by forcing a capture-and-evaluate after every tick. The event path only sees the var changes
+ * themselves, routed through TaskManager like the plugin does, plus an unrelated varp change now and then.
+ */
+public class BirdhouseTaskReplayTest
+{
+	private static final int EMPTY = BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED;
+	private static final int BUILT = BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY;
+	private static final int FULL = BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL;
+	private static final int UNRELATED_VARP = 1234;
+	private static final int TICKS = 24;
+
+	/** Patch states before the run, by location index. */
+	private static final int[] INITIAL = {FULL, EMPTY, BUILT, EMPTY};
+
+	/** {tick, patch, value}: harvest, build and fill patch 0; build and fill 1; 3 filled out of turn; fill 2; redo 3. */
+	private static final int[][] SCRIPT = {
+		{1, 0, EMPTY}, {3, 0, BUILT}, {5, 0, FULL},
+		{8, 1, BUILT}, {10, 1, FULL},
+		{12, 3, FULL},
+		{14, 2, FULL},
+		{16, 3, EMPTY}, {18, 3, BUILT}, {20, 3, FULL},
+	};
+
+	@Test
+	public void eventDrivenMatchesPolling()
+	{
+		List<String> polled = replay(false);
+		List<String> evented = replay(true);
+		assertEquals(polled, evented);
+		// Guard against both paths agreeing on nothing happening: one transition per filled patch.
+		assertEquals(4, evented.size());
+		assertEquals("tick 20: 4 completed, step 3, visited 1111", evented.get(3));
+	}
+
+	private static List<String> replay(boolean eventDriven)
+	{
+		FakeClient fake = new FakeClient();
+		TaskManager taskManager = new TaskManager();
+		BirdhouseConfig config = FakeClient.defaultConfig(BirdhouseConfig.class);
+		for (int i = 0; i < INITIAL.length; i++)
+			fake.setVarp(FakeClient.PATCH_VARPS[i], INITIAL[i]);
+		fake.setPlayerLocation(BirdhouseData.VERDANT_VALLEY_NORTH);
+
+		BirdhouseTask task = new BirdhouseTask(fake.client(), taskManager, config, new InventoryHistogram());
+		task.setMode(BirdhouseMode.BIRDHOUSES);
+		task.setRouteOrder(new int[]{0, 1, 2, 3});
+
+		List<String> transitions = new ArrayList<>();
+		int[] tick = {0};
+		taskManager.registerTask(task);
+		taskManager.addTaskStateListener(new TaskManager.TaskStateListener()
+		{
+			@Override
+			public void onTaskStateChanged(Task t)
+			{
+				BirdhouseTaskSnapshot s = task.getSnapshot();
+				transitions.add("tick " + tick[0] + ": " + s.getCompletedSteps() + " completed, step " + s.getCurrentStepIndex()
+					+ ", visited " + visited(s));
+			}
+		});
+
+		for (tick[0] = 0; tick[0] <= TICKS; tick[0]++)
+		{
+			for (int[] change : SCRIPT)
+			{
+				if (change[0] != tick[0]) continue;
+				int varp = FakeClient.PATCH_VARPS[change[1]];
+				fake.setVarp(varp, change[2]);
+				if (eventDriven) taskManager.dispatchVarChanged(varp, -1);
+			}
+			if (eventDriven && tick[0] % 4 == 2) taskManager.dispatchVarChanged(UNRELATED_VARP, -1);
+			taskManager.dispatchGameTick();
+			if (!eventDriven) task.onVarChanged(FakeClient.PATCH_VARPS[0], -1);
+		}
+		return transitions;
+	}
+
+	/** Visited flags by patch index, e.g. "1100" for the first two patches. */
+	private static String visited(BirdhouseTaskSnapshot s)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 4; i++) sb.append(s.isVisited(i) ? '1' : '0');
+		return sb.toString();
+	}
+}
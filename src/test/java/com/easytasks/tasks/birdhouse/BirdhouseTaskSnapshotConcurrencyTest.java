@@ -0,0 +1,114 @@
+package com.easytasks.tasks.birdhouse;
+
+import com.easytasks.tasks.Task;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.testing.BirdhouseRunSimulator;
+import com.easytasks.testing.BirdhouseRunSimulator.Scenario;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * One thread plays scripted runs (the client thread) while three others read
+ * {@link BirdhouseTask#getSnapshot()} as the side panel does. The writer records every snapshot the task
+ * publishes; once all threads are done, every snapshot a reader saw must be one of those. A reader that
+ * observed a half-built snapshot, or values mixed from two transitions, would hold an object the writer
+ * never published.
+ */
+public class BirdhouseTaskSnapshotConcurrencyTest
+{
+	private static final int RUNS = 2_000;
+	private static final int READERS = 3;
+	private static final Scenario[] SCENARIOS = {Scenario.OUT_OF_ORDER, Scenario.HARVEST, Scenario.BUILD, Scenario.FILL};
+
+	@Test
+	public void readersOnlyObservePublishedSnapshots() throws InterruptedException
+	{
+		BirdhouseRunSimulator simulator = new BirdhouseRunSimulator();
+		Set<BirdhouseTaskSnapshot> published = identitySet();
+		published.add(BirdhouseTaskSnapshot.INACTIVE);
+		// Called on the writer thread right after each publish.
+		simulator.getTaskManager().addTaskStateListener(new TaskManager.TaskStateListener()
+		{
+			@Override
+			public void onTaskStateChanged(Task task)
+			{
+				published.add(((BirdhouseTask) task).getSnapshot());
+			}
+		});
+		simulator.run(Scenario.FILL);
+
+		List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+		List<Set<BirdhouseTaskSnapshot>> observed = new ArrayList<>();
+		long[] reads = new long[READERS];
+		AtomicBoolean done = new AtomicBoolean();
+
+		Thread writer = new Thread(() -> {
+			try
+			{
+				for (int i = 0; i < RUNS; i++)
+					simulator.run(SCENARIOS[i % SCENARIOS.length]);
+			}
+			catch (Throwable t) { failures.add(t); }
+			finally { done.set(true); }
+		}, "writer");
+
+		List<Thread> readers = new ArrayList<>();
+		for (int r = 0; r < READERS; r++)
+		{
+			Set<BirdhouseTaskSnapshot> seen = identitySet();
+			observed.add(seen);
+			int id = r;
+			readers.add(new Thread(() -> {
+				try
+				{
+					while (!done.get())
+					{
+						seen.add(simulator.getTask().getSnapshot());
+						reads[id]++;
+					}
+				}
+				catch (Throwable t) { failures.add(t); }
+			}, "reader-" + r));
+		}
+
+		readers.forEach(Thread::start);
+		writer.start();
+		writer.join();
+		for (Thread t : readers) t.join();
+
+		if (!failures.isEmpty())
+			throw new AssertionError("thread failed", failures.get(0));
+		long total = 0;
+		for (int r = 0; r < READERS; r++)
+		{
+			assertTrue("reader-" + r + " made no reads", reads[r] > 0);
+			total += reads[r];
+			for (BirdhouseTaskSnapshot s : observed.get(r))
+			{
+				if (!published.contains(s))
+					fail("reader-" + r + " saw a snapshot the writer never published: " + describe(s));
+			}
+		}
+		assertTrue(total > 0);
+	}
+
+	private static Set<BirdhouseTaskSnapshot> identitySet()
+	{
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	private static String describe(BirdhouseTaskSnapshot s)
+	{
+		return "active=" + s.isActive() + " mode=" + s.getMode() + " step=" + s.getCurrentStepIndex()
+			+ " visited=" + Integer.toBinaryString(s.getVisitedMask()) + " completed=" + s.getCompletedSteps();
+	}
+}
@@ -0,0 +1,208 @@
+package com.easytasks.testing;
+
+import com.easytasks.BirdhouseConfig;
+import com.easytasks.tasks.InventoryHistogram;
+import com.easytasks.tasks.TaskManager;
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseLocation;
+import com.easytasks.tasks.birdhouse.BirdhouseMode;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import net.runelite.api.Item;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.ItemID;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Headless driver for complete birdhouse runs. Makes the same TaskManager dispatches BirdhousePlugin makes
+ * (GameTick, VarbitChanged, ItemContainerChanged, MenuOptionClicked) from a scripted sequence of player
+ * moves, patch var changes, inventory changes and clicks against a {@link FakeClient}, and fails loudly
+ * if the run does not end where the script says it should. Deterministic and cheap enough to run
+ * thousands of complete runs per second; reuse one instance and call {@link #run} repeatedly.
+ * Shared by the unit tests and (through the test output) the JMH benchmarks.
+ */
+public class BirdhouseRunSimulator
+{
+	/** Ticks spent walking in from a teleport before the player is within range of a patch. */
+	private static final int WALK_TICKS = 6;
+	private static final int SEEDS_PER_FILL = 10;
+
+	/** Scripted runs: starting patch states (by location index) and route order. */
+	public enum Scenario
+	{
+		/** Fresh patches: build and fill all four. */
+		BUILD(new int[]{0, 1, 2, 3}, state(BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED)),
+		/** Birdhouses already built: fill all four. */
+		FILL(new int[]{0, 1, 2, 3}, state(BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY)),
+		/** Full birdhouses from a previous run: harvest, rebuild and fill all four. */
+		HARVEST(new int[]{0, 1, 2, 3}, state(BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL)),
+		/** Non-default route with every patch in a different state. */
+		OUT_OF_ORDER(new int[]{3, 1, 0, 2}, new int[]{
+			BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL, BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED,
+			BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY, BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL});
+
+		final int[] routeOrder;
+		final int[] initialStates;
+
+		Scenario(int[] routeOrder, int[] initialStates)
+		{
+			this.routeOrder = routeOrder;
+			this.initialStates = initialStates;
+		}
+
+		public int[] getRouteOrder() { return routeOrder.clone(); }
+
+		private static int[] state(int value)
+		{
+			return new int[]{value, value, value, value};
+		}
+	}
+
+	private final FakeClient fake = new FakeClient();
+	private final TaskManager taskManager = new TaskManager();
+	private final InventoryHistogram inventory = new InventoryHistogram();
+	private final BirdhouseConfig config = FakeClient.defaultConfig(BirdhouseConfig.class);
+	/** Volatile so a concurrent reader (see BirdhouseTaskSnapshotConcurrencyTest) always sees the current run's task. */
+	private volatile BirdhouseTask task;
+	private boolean completed;
+	/** Patch index of the current step as each patch was approached, and of each patch as it was filled. */
+	private final int[] stepOrder = new int[4];
+	private final int[] filledOrder = new int[4];
+	private int stepCount;
+	private int filledCount;
+	private int birdhouses;
+	private int seeds;
+	private long ticks;
+
+	/** Task of the current (or last) run; null before the first run. */
+	public BirdhouseTask getTask() { return task; }
+
+	/** The task manager runs are registered with; tests attach state listeners here. */
+	public TaskManager getTaskManager() { return taskManager; }
+
+	/** Patch index of the current step at the start of each leg of the last run, in order. */
+	public int[] getStepOrder() { return Arrays.copyOf(stepOrder, stepCount); }
+
+	/** Patch indices in the order the last run reported them filled. */
+	public int[] getFilledOrder() { return Arrays.copyOf(filledOrder, filledCount); }
+
+	/** Current patch state value (0, 19, 21) by location index. */
+	public int getPatchState(int patchIndex) { return fake.getVarp(FakeClient.PATCH_VARPS[patchIndex]); }
+
+	/** Plays a scenario from a fresh task to completion; returns the number of game ticks simulated. */
+	public long run(Scenario scenario)
+	{
+		start(scenario);
+		List<BirdhouseLocation> route = task.getLocationsInRouteOrder();
+		for (BirdhouseLocation loc : route)
+		{
+			BirdhouseLocation current = task.getCurrentStepLocation();
+			stepOrder[stepCount++] = current == null ? -1 : current.getPatchIndex();
+			walkTo(loc);
+			int state = task.getPatchState(loc);
+			if (state == BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL)
+			{
+				expectInstruction("Empty the birdhouse");
+				click("Take", loc);
+				setPatchState(loc, BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED);
+				state = BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED;
+			}
+			if (state == BirdhouseData.VARPLAYER_VALUE_UNOCCUPIED)
+			{
+				expectInstruction("Click the patch to build");
+				click("Build", loc);
+				birdhouses--;
+				updateInventory();
+				setPatchState(loc, BirdhouseData.VARPLAYER_VALUE_OCCUPIED_EMPTY);
+			}
+			expectInstruction("Click seeds");
+			seeds -= SEEDS_PER_FILL;
+			updateInventory();
+			setPatchState(loc, BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL);
+			tick();
+		}
+		if (!completed)
+			throw new IllegalStateException(scenario + ": run did not complete (" + task.getCompletedSteps() + "/4)");
+		return ticks;
+	}
+
+	private void start(Scenario scenario)
+	{
+		completed = false;
+		stepCount = 0;
+		filledCount = 0;
+		ticks = 0;
+		birdhouses = 4;
+		seeds = 40;
+		for (int i = 0; i < 4; i++)
+			fake.setVarp(FakeClient.PATCH_VARPS[i], scenario.initialStates[i]);
+		fake.setPlayerLocation(new WorldPoint(3725, 3850, 0));
+		updateInventory();
+
+		task = new BirdhouseTask(fake.client(), taskManager, config, inventory);
+		task.setRouteOrder(scenario.routeOrder);
+		task.setMode(BirdhouseMode.BIRDHOUSES);
+		BirdhouseTask current = task;
+		task.setOnPatchFilled(loc -> filledOrder[filledCount++] = loc.getPatchIndex());
+		task.setOnCompleteCallback(() -> {
+			completed = true;
+			taskManager.unregisterTask(current);
+		});
+		taskManager.registerTask(task);
+		tick();
+	}
+
+	/** Lands a teleport's distance away, walks in, then stands on the patch. */
+	private void walkTo(BirdhouseLocation loc)
+	{
+		WorldPoint target = loc.getWorldPoint();
+		for (int i = WALK_TICKS; i > 0; i--)
+		{
+			fake.setPlayerLocation(target.dx(i * 4));
+			tick();
+		}
+		fake.setPlayerLocation(target);
+		tick();
+	}
+
+	/** One game tick plus one rendered frame of guidance, as the plugin and overlays would see it. */
+	private void tick()
+	{
+		ticks++;
+		if (!task.isActive()) return;
+		taskManager.dispatchGameTick();
+		task.getGuidanceLine();
+	}
+
+	private void setPatchState(BirdhouseLocation loc, int value)
+	{
+		int varp = FakeClient.PATCH_VARPS[loc.getPatchIndex()];
+		fake.setVarp(varp, value);
+		taskManager.dispatchVarChanged(varp, -1);
+	}
+
+	private void click(String option, BirdhouseLocation loc)
+	{
+		WorldPoint wp = loc.getWorldPoint();
+		taskManager.dispatchMenuOptionClicked(option, loc.getPatchObjectId(), fake.toSceneX(wp), fake.toSceneY(wp));
+	}
+
+	private void updateInventory()
+	{
+		fake.setInventory(
+			new Item(BirdhouseData.getBirdhouseId(1), birdhouses),
+			new Item(BirdhouseData.getSeedId(0), seeds),
+			new Item(ItemID.HAMMER, 1),
+			new Item(ItemID.CHISEL, 1));
+		inventory.update(fake.getInventoryContainer());
+		taskManager.dispatchItemContainerChanged(FakeClient.INVENTORY_ID);
+	}
+
+	private void expectInstruction(String prefix)
+	{
+		String instruction = task.getCurrentStepInstruction();
+		if (instruction == null || !instruction.startsWith(prefix))
+			throw new IllegalStateException("expected \"" + prefix + "...\" but was \"" + instruction + "\"");
+	}
+}
@@ -0,0 +1,69 @@
+package com.easytasks.testing;
+
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import com.easytasks.tasks.birdhouse.BirdhouseTask;
+import com.easytasks.testing.BirdhouseRunSimulator.Scenario;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Complete scripted runs. The simulator already fails on any unexpected instruction along the way;
+ * these check where each run ends: every patch full, steps and fills in route order, task stopped.
+ */
+public class BirdhouseRunSimulatorTest
+{
+	private final BirdhouseRunSimulator simulator = new BirdhouseRunSimulator();
+
+	@Test
+	public void buildRun()
+	{
+		assertRun(Scenario.BUILD);
+	}
+
+	@Test
+	public void fillRun()
+	{
+		assertRun(Scenario.FILL);
+	}
+
+	@Test
+	public void harvestRun()
+	{
+		assertRun(Scenario.HARVEST);
+	}
+
+	@Test
+	public void outOfOrderRun()
+	{
+		assertRun(Scenario.OUT_OF_ORDER);
+	}
+
+	/** One simulator reused for every scenario in turn, as the benchmarks do; nothing leaks between runs. */
+	@Test
+	public void consecutiveRuns()
+	{
+		for (int i = 0; i < 3; i++)
+			for (Scenario scenario : Scenario.values())
+				assertRun(scenario);
+	}
+
+	private void assertRun(Scenario scenario)
+	{
+		long ticks = simulator.run(scenario);
+		assertTrue(scenario + ": no ticks simulated", ticks > 0);
+
+		BirdhouseTask task = simulator.getTask();
+		assertFalse(scenario + ": task still active after completing", task.isActive());
+		assertEquals(scenario + ": completed steps", 4, task.getCompletedSteps());
+		assertEquals(scenario + ": progress", 100, task.getProgress());
+
+		assertArrayEquals(scenario + ": step order", scenario.getRouteOrder(), simulator.getStepOrder());
+		assertArrayEquals(scenario + ": fill order", scenario.getRouteOrder(), simulator.getFilledOrder());
+		for (int i = 0; i < 4; i++)
+			assertEquals(scenario + ": patch " + i + " state", BirdhouseData.VARPLAYER_VALUE_OCCUPIED_FULL, simulator.getPatchState(i));
+	}
+}
@@ -0,0 +1,244 @@
+package com.easytasks.testing;
+
+import com.easytasks.tasks.birdhouse.BirdhouseData;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Player;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+
+import java.awt.Shape;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lightweight stand-in for the game client: just the state the plugin reads (varps, varbits, patch
+ * object definitions, player tile, scene base and game objects, inventory). Everything is a dynamic
+ * proxy, so any Client method not handled here returns a zero/false/null default instead of failing.
+ */
+public class FakeClient
+{
+	/** Fake VarPlayer IDs for the four patches, in BirdhouseTask location order. */
+	public static final int[] PATCH_VARPS = {1626, 1627, 1628, 1629};
+	public static final int[] PATCH_OBJECT_IDS = {
+		BirdhouseData.OBJECT_ID_VALLEY_NORTH, BirdhouseData.OBJECT_ID_VALLEY_SOUTH,
+		BirdhouseData.OBJECT_ID_MUSHROOM_FOREST, BirdhouseData.OBJECT_ID_TAR_SWAMP
+	};
+
+	public static final int INVENTORY_ID = 93;
+	public static final int SCENE_SIZE = 104;
+
+	private final int[] varps = new int[8192];
+	private final Map<Integer, Integer> varbits = new HashMap<>();
+	private final Map<Integer, ObjectComposition> objectDefinitions = new HashMap<>();
+	private WorldPoint playerLocation;
+	private Item[] inventory = new Item[0];
+	private GameState gameState = GameState.LOGGED_IN;
+	private int baseX;
+	private int baseY;
+	private final Tile[][][] tiles = new Tile[4][SCENE_SIZE][SCENE_SIZE];
+	private final GameObject[][][][] tileObjects = new GameObject[4][SCENE_SIZE][SCENE_SIZE][];
+	private int clickboxCalls;
+
+	private final Player player = proxy(Player.class, (p, m, a) ->
+		"getWorldLocation".equals(m.getName()) ? playerLocation : defaultValue(m));
+	private final ItemContainer inventoryContainer = proxy(ItemContainer.class, (p, m, a) -> {
+		switch (m.getName())
+		{
+			case "getItems": return inventory;
+			case "getId": return INVENTORY_ID;
+			default: return defaultValue(m);
+		}
+	});
+	private final Scene scene = proxy(Scene.class, (p, m, a) ->
+		"getTiles".equals(m.getName()) ? tiles : defaultValue(m));
+	private final WorldView worldView = proxy(WorldView.class, (p, m, a) -> {
+		switch (m.getName())
+		{
+			case "getBaseX": return baseX;
+			case "getBaseY": return baseY;
+			case "getPlane": return playerLocation == null ? 0 : playerLocation.getPlane();
+			case "getSizeX":
+			case "getSizeY": return SCENE_SIZE;
+			case "getId": return -1;
+			case "getScene": return scene;
+			default: return defaultValue(m);
+		}
+	});
+	private final Client client = proxy(Client.class, this::handleClient);
+
+	public FakeClient()
+	{
+		for (int i = 0; i < PATCH_OBJECT_IDS.length; i++)
+			definePatchVarp(PATCH_OBJECT_IDS[i], PATCH_VARPS[i]);
+	}
+
+	public Client client() { return client; }
+
+	public void definePatchVarp(int objectId, int varpId)
+	{
+		objectDefinitions.put(objectId, proxy(ObjectComposition.class, (p, m, a) -> {
+			switch (m.getName())
+			{
+				case "getId": return objectId;
+				case "getVarPlayerId": return varpId;
+				case "getVarbitId": return -1;
+				default: return defaultValue(m);
+			}
+		}));
+	}
+
+	public void setVarp(int varpId, int value) { varps[varpId] = value; }
+	public int getVarp(int varpId) { return varps[varpId]; }
+	public void setVarbit(int varbitId, int value) { varbits.put(varbitId, value); }
+
+	/** Moves the player and re-centres the loaded scene on them, as a region load would. */
+	public void setPlayerLocation(WorldPoint playerLocation)
+	{
+		this.playerLocation = playerLocation;
+		if (playerLocation != null)
+		{
+			baseX = ((playerLocation.getX() >> 3) - 6) << 3;
+			baseY = ((playerLocation.getY() >> 3) - 6) << 3;
+		}
+	}
+
+	/** Scene coordinates of a world tile in the currently loaded scene (as sent in menu option params). */
+	public int toSceneX(WorldPoint wp) { return wp.getX() - baseX; }
+	public int toSceneY(WorldPoint wp) { return wp.getY() - baseY; }
+
+	/**
+	 * Places a game object on a tile of the currently loaded scene, as a spawn would; its clickbox is the
+	 * given shape. Returns the object so it can be fed to spawn handlers.
+	 */
+	public GameObject addGameObject(int objectId, WorldPoint wp, Shape clickbox)
+	{
+		int plane = wp.getPlane();
+		int x = toSceneX(wp);
+		int y = toSceneY(wp);
+		GameObject obj = proxy(GameObject.class, (p, m, a) -> {
+			switch (m.getName())
+			{
+				case "getId": return objectId;
+				case "getPlane": return plane;
+				case "getWorldLocation": return wp;
+				case "getClickbox":
+					clickboxCalls++;
+					return clickbox;
+				case "getConvexHull": return clickbox;
+				default: return defaultValue(m);
+			}
+		});
+		GameObject[] objs = tileObjects[plane][x][y];
+		objs = objs == null ? new GameObject[1] : Arrays.copyOf(objs, objs.length + 1);
+		objs[objs.length - 1] = obj;
+		tileObjects[plane][x][y] = objs;
+		if (tiles[plane][x][y] == null)
+		{
+			tiles[plane][x][y] = proxy(Tile.class, (p, m, a) -> {
+				switch (m.getName())
+				{
+					case "getGameObjects": return tileObjects[plane][x][y];
+					case "getPlane": return plane;
+					case "getWorldLocation": return wp;
+					default: return defaultValue(m);
+				}
+			});
+		}
+		return obj;
+	}
+
+	/** How many times any added object's clickbox has been read, i.e. how often hulls were projected. */
+	public int getClickboxCalls() { return clickboxCalls; }
+
+	public WorldPoint getPlayerLocation() { return playerLocation; }
+	public void setInventory(Item... items) { this.inventory = items; }
+	public ItemContainer getInventoryContainer() { return inventoryContainer; }
+	public void setGameState(GameState gameState) { this.gameState = gameState; }
+
+	private Object handleClient(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		switch (method.getName())
+		{
+			case "getVarpValue": return varps[(Integer) args[0]];
+			case "getVarbitValue": return varbits.getOrDefault((Integer) args[0], 0);
+			case "getObjectDefinition": return objectDefinitions.get((Integer) args[0]);
+			case "getLocalPlayer": return playerLocation == null ? null : player;
+			case "getItemContainer": return isInventory(args[0]) ? inventoryContainer : null;
+			case "getGameState": return gameState;
+			case "getPlane": return playerLocation == null ? 0 : playerLocation.getPlane();
+			case "getBaseX": return baseX;
+			case "getBaseY": return baseY;
+			case "getScene": return scene;
+			case "getTopLevelWorldView":
+			case "getWorldView": return worldView;
+			default: return defaultValue(method);
+		}
+	}
+
+	private static boolean isInventory(Object containerId)
+	{
+		if (containerId instanceof Integer) return (Integer) containerId == INVENTORY_ID;
+		if (containerId instanceof net.runelite.api.InventoryID)
+			return ((net.runelite.api.InventoryID) containerId).getId() == INVENTORY_ID;
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> T proxy(Class<T> type, InvocationHandler handler)
+	{
+		return (T) Proxy.newProxyInstance(FakeClient.class.getClassLoader(), new Class<?>[]{type}, (p, m, a) -> {
+			if (m.getDeclaringClass() == Object.class)
+			{
+				switch (m.getName())
+				{
+					case "hashCode": return System.identityHashCode(p);
+					case "equals": return p == a[0];
+					default: return type.getSimpleName() + "@fake";
+				}
+			}
+			return handler.invoke(p, m, a);
+		});
+	}
+
+	/**
+	 * Proxy for a config interface that answers every call with the interface's default method,
+	 * i.e. the plugin's out-of-the-box configuration.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T defaultConfig(Class<T> type)
+	{
+		return proxy(type, (p, m, a) -> {
+			if (!m.isDefault()) return defaultValue(m);
+			return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+				.unreflectSpecial(m, type)
+				.bindTo(p)
+				.invokeWithArguments(a == null ? new Object[0] : a);
+		});
+	}
+
+	public static Object defaultValue(Method method)
+	{
+		Class<?> r = method.getReturnType();
+		if (!r.isPrimitive() || r == void.class) return null;
+		if (r == boolean.class) return false;
+		if (r == long.class) return 0L;
+		if (r == double.class) return 0d;
+		if (r == float.class) return 0f;
+		if (r == char.class) return (char) 0;
+		if (r == byte.class) return (byte) 0;
+		if (r == short.class) return (short) 0;
+		return 0;
+	}
+}